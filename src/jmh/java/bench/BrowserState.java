@@ -0,0 +1,75 @@
+package bench;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Playwright;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import support.ExecutionProfile;
+import support.WebAppAssets;
+import support.WebAppServer;
+
+/**
+ * Benchmark state holding a browser, a context and a page on the benchmark thread
+ * Parameterized by headless mode and by how the web application is served
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+@State(Scope.Thread)
+public class BrowserState {
+
+    /** Headless only by default, so that the benchmarks run on agents without display; -p headless=true,false */
+    @Param({"true"})
+    public boolean headless;
+
+    @Param({"file", "http"})
+    public String serve;
+
+    public Playwright playwright;
+    public Browser browser;
+    public BrowserContext context;
+    public Page page;
+    public String baseUrl;
+
+    private WebAppServer server;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(launchOptions());
+        context = browser.newContext();
+        page = context.newPage();
+
+        if (serve.equals("http")) {
+            server = new WebAppServer(WebAppAssets.load(WebAppAssets.WEBAPP_DIR));
+            baseUrl = server.baseUrl();
+        } else {
+            baseUrl = WebAppAssets.WEBAPP_DIR.toString();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        context.close();
+        browser.close();
+        playwright.close();
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    /**
+     * Launch options of the perf profile with the headless mode of this trial
+     * @return Launch options
+     */
+    public BrowserType.LaunchOptions launchOptions() {
+        return ExecutionProfile.named("perf").launchOptions().setHeadless(headless);
+    }
+}
@@ -0,0 +1,41 @@
+package bench;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the fixed costs paid before the first test action: browser launch and context creation
+ * Uses a LaunchState, so that the benchmarks are not repeated for every serve mode
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LaunchBenchmark {
+
+    @Benchmark
+    public void browserLaunch(LaunchState state) {
+        Browser browser = state.playwright.chromium().launch(state.launchOptions());
+        browser.close();
+    }
+
+    @Benchmark
+    public void contextCreation(LaunchState state) {
+        BrowserContext context = state.browser.newContext();
+        context.newPage();
+        context.close();
+    }
+}
@@ -0,0 +1,50 @@
+package bench;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import support.ExecutionProfile;
+
+/**
+ * Benchmark state holding a driver and a browser on the benchmark thread, without any page
+ * Parameterized by headless mode only, the launch costs do not depend on how pages are served
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@State(Scope.Thread)
+public class LaunchState {
+
+    /** Headless only by default, compare with a window with -p headless=true,false */
+    @Param({"true"})
+    public boolean headless;
+
+    public Playwright playwright;
+    public Browser browser;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        playwright = Playwright.create();
+        browser = playwright.chromium().launch(launchOptions());
+    }
+
+    @TearDown(Level.Trial)
+    public void teardown() {
+        browser.close();
+        playwright.close();
+    }
+
+    /**
+     * Launch options of the perf profile with the headless mode of this trial
+     * @return Launch options
+     */
+    public BrowserType.LaunchOptions launchOptions() {
+        return ExecutionProfile.named("perf").launchOptions().setHeadless(headless);
+    }
+}
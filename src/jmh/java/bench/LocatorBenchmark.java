@@ -0,0 +1,93 @@
+package bench;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.Page1;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call cost of selector strings passed to Page compared to locators built once and reused
+ * Each pair runs the same element check on page1.html
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocatorBenchmark {
+
+    private static final String TERMS_CHECKBOX = "#acceptTerms";
+    private static final String NEXT_LINK = "#nextLink";
+
+    /**
+     * Page1 opened once per trial, with locators built once
+     */
+    @State(Scope.Thread)
+    public static class OnPage1 {
+
+        Page page;
+        Locator termsCheckbox;
+        Locator nextLink;
+
+        @Setup(Level.Trial)
+        public void setup(BrowserState state) {
+            new Page1(state.page).nav(state.baseUrl);
+            page = state.page;
+            termsCheckbox = page.locator(TERMS_CHECKBOX);
+            nextLink = page.locator(NEXT_LINK);
+        }
+    }
+
+    @Benchmark
+    public boolean isCheckedString(OnPage1 onPage1) {
+        return onPage1.page.isChecked(TERMS_CHECKBOX);
+    }
+
+    @Benchmark
+    public boolean isCheckedLocator(OnPage1 onPage1) {
+        return onPage1.termsCheckbox.isChecked();
+    }
+
+    @Benchmark
+    public boolean isCheckedNewLocator(OnPage1 onPage1) {
+        return onPage1.page.locator(TERMS_CHECKBOX).isChecked();
+    }
+
+    @Benchmark
+    public String textContentString(OnPage1 onPage1) {
+        return onPage1.page.textContent(NEXT_LINK);
+    }
+
+    @Benchmark
+    public String textContentLocator(OnPage1 onPage1) {
+        return onPage1.nextLink.textContent();
+    }
+
+    /**
+     * Previous implementation of Page1.isNextLinkEnabled, evaluating a query by hand
+     */
+    @Benchmark
+    public boolean nextLinkClassEvaluate(OnPage1 onPage1) {
+        return onPage1.page.evaluate("document.querySelector('#nextLink').className").toString().contains("enabled");
+    }
+
+    @Benchmark
+    public String nextLinkClassLocator(OnPage1 onPage1) {
+        return onPage1.nextLink.getAttribute("class");
+    }
+}
@@ -0,0 +1,95 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import pages.FillMode;
+import pages.Page1;
+import pages.Page2;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the page-object operations used by the tests
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageObjectBenchmark {
+
+    /**
+     * Page1 opened once per trial
+     */
+    @State(Scope.Thread)
+    public static class OnPage1 {
+
+        Page1 page1;
+
+        @Setup(Level.Trial)
+        public void setup(BrowserState state) {
+            page1 = new Page1(state.page);
+            page1.nav(state.baseUrl);
+        }
+    }
+
+    /**
+     * Page2 opened once per trial, filled with the parameterized fill mode
+     */
+    @State(Scope.Thread)
+    public static class OnPage2 {
+
+        @Param({"USER", "FAST"})
+        public FillMode fillMode;
+
+        Page2 page2;
+
+        @Setup(Level.Trial)
+        public void setup(BrowserState state) {
+            page2 = new Page2(state.page);
+            page2.nav(state.baseUrl);
+        }
+    }
+
+    @Benchmark
+    public void page1Nav(BrowserState state) {
+        new Page1(state.page).nav(state.baseUrl);
+    }
+
+    @Benchmark
+    public void page2Nav(BrowserState state) {
+        new Page2(state.page).nav(state.baseUrl);
+    }
+
+    @Benchmark
+    public void acceptAndDeclineTerms(OnPage1 onPage1) {
+        onPage1.page1.acceptTerms();
+        onPage1.page1.declineTerms();
+    }
+
+    @Benchmark
+    public boolean isNextLinkEnabled(OnPage1 onPage1) {
+        return onPage1.page1.isNextLinkEnabled();
+    }
+
+    @Benchmark
+    public boolean fillCompleteFormAndSubmit(OnPage2 onPage2) {
+        onPage2.page2.fillCompleteForm("DE", "DE", true, true, onPage2.fillMode);
+        onPage2.page2.clickSubmit();
+        onPage2.page2.waitForResult();
+        return onPage2.page2.isResultSuccess();
+    }
+}
@@ -0,0 +1,69 @@
+package bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import support.PngImage;
+import support.VisualDiff;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the visual regression check on a full-page screenshot of 1280x960 pixels
+ * Compares identical images, the common case, and decodes the baseline as VisualCheck does
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class VisualDiffBenchmark {
+
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 960;
+
+    PngImage baseline;
+    PngImage actual;
+    byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        Arrays.fill(pixels, 0xffffffff);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (y < 80) {
+                    pixels[y * WIDTH + x] = 0xff3366cc;
+                } else if (y % 24 < 12 && x % 10 < 6 && x > 100 && x < 900) {
+                    pixels[y * WIDTH + x] = 0xff202020;
+                }
+            }
+        }
+        baseline = new PngImage(WIDTH, HEIGHT, pixels);
+        actual = new PngImage(WIDTH, HEIGHT, pixels.clone());
+        encoded = baseline.encode();
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return VisualDiff.compare(baseline, actual).matches();
+    }
+
+    @Benchmark
+    public PngImage decode() {
+        return PngImage.decode(encoded);
+    }
+}
@@ -0,0 +1,99 @@
+package pages;
+
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Page;
+import support.ActionTimings;
+import support.PerfMetrics;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Base class of the page objects
+ * Wraps the page-object actions so that their latency is recorded when timings are enabled,
+ * and collects the page metrics after navigations and submits when metrics are enabled.
+ * The page objects build their locators once, in their constructor; locators resolve lazily on every
+ * action and are strict, so a selector matching several elements fails instead of picking the first one
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.5
+ */
+public abstract class BasePage {
+
+    protected final Page page;
+
+    /**
+     * Constructor
+     * @param page Instance of Playwright Page
+     */
+    protected BasePage(Page page) {
+        this.page = page;
+    }
+
+    /**
+     * Run an action and record its latency
+     * @param action Qualified action name (e.g. "Page1.acceptTerms")
+     * @param selector Selector or resource the action works on
+     * @param call Action to run
+     */
+    protected void timed(String action, String selector, Runnable call) {
+        if (!ActionTimings.enabled()) {
+            call.run();
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            call.run();
+        } finally {
+            ActionTimings.record(action, selector, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Run a query and record its latency
+     * @param action Qualified action name (e.g. "Page2.isResultSuccess")
+     * @param selector Selector or resource the query works on
+     * @param call Query to run
+     * @return Result of the query
+     */
+    protected <T> T timed(String action, String selector, Supplier<T> call) {
+        if (!ActionTimings.enabled()) {
+            return call.get();
+        }
+        long start = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            ActionTimings.record(action, selector, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Run a navigation or submit step and collect the load and response metrics of the page, when enabled
+     * The renderer counters are read before and after the step, so that their increase is attributed to it
+     * @param pageName Name of the page in the budgets (e.g. "page1")
+     * @param step Name of the step (e.g. "nav", "submit")
+     * @param call Step to run
+     */
+    protected void measured(String pageName, String step, Runnable call) {
+        if (!PerfMetrics.enabled()) {
+            call.run();
+            return;
+        }
+        Map<String, Double> before = PerfMetrics.counters(page);
+        call.run();
+        PerfMetrics.collect(page, pageName, step, before);
+    }
+
+    /**
+     * Check if an element carries a CSS class
+     * @param locator Locator of the element
+     * @param className Class to look for (e.g. "enabled")
+     * @return true if the class attribute contains the class as a whole token
+     */
+    protected static boolean hasClass(Locator locator, String className) {
+        String classAttribute = locator.getAttribute("class");
+        return classAttribute != null && Arrays.asList(classAttribute.trim().split("\\s+")).contains(className);
+    }
+}
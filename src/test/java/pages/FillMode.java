@@ -0,0 +1,16 @@
+package pages;
+
+/**
+ * How {@link Page2#fillCompleteForm(String, String, boolean, boolean, FillMode)} fills the form
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public enum FillMode {
+
+    /** One actionability-checked Playwright action per field, like a user would do it */
+    USER,
+
+    /** All fields set and their input/change events dispatched by a single evaluated script */
+    FAST
+}
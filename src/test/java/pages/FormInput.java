@@ -0,0 +1,20 @@
+package pages;
+
+/**
+ * Input of the form page, as filled by {@link Page2#fillForm(FormInput)}
+ *
+ * @param acronym Value typed into the acronym input field
+ * @param country Country code to select, empty for the placeholder option
+ * @param euResident EU radio button to check ("yes" or "no"), empty to check none
+ * @param dataConsent true to check the data consent checkbox
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public record FormInput(String acronym, String country, String euResident, boolean dataConsent) {
+
+    @Override
+    public String toString() {
+        return "acronym='" + acronym + "' country='" + country + "' eu='" + euResident + "' consent=" + dataConsent;
+    }
+}
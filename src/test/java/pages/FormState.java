@@ -0,0 +1,58 @@
+package pages;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the form page, read in a single browser round trip by {@link Page2#snapshot()}
+ *
+ * @param acronym Value of the acronym input field
+ * @param country Selected country code, empty if none is selected
+ * @param euResident Value of the checked EU radio button ("yes" or "no"), empty if none is checked
+ * @param dataConsent true if the data consent checkbox is checked
+ * @param resultClass Class of the result message ("success", "error" or empty before the first submit)
+ * @param resultText Trimmed text of the result message
+ * @param errors Validation errors listed in the result message
+ * @param bodyBackground Computed background color of the body
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public record FormState(String acronym, String country, String euResident, boolean dataConsent,
+                        String resultClass, String resultText, List<String> errors, String bodyBackground) {
+
+    public FormState {
+        errors = List.copyOf(errors);
+    }
+
+    /**
+     * Check if EU Yes radio button is checked
+     * @return true if checked, false otherwise
+     */
+    public boolean isEuYes() {
+        return euResident.equals("yes");
+    }
+
+    /**
+     * Check if EU No radio button is checked
+     * @return true if checked, false otherwise
+     */
+    public boolean isEuNo() {
+        return euResident.equals("no");
+    }
+
+    /**
+     * Check if result message indicates success
+     * @return true if success message, false otherwise
+     */
+    public boolean isSuccess() {
+        return resultClass.contains("success");
+    }
+
+    /**
+     * Check if result message indicates error
+     * @return true if error message, false otherwise
+     */
+    public boolean isError() {
+        return resultClass.contains("error");
+    }
+}
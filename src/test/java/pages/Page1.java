@@ -1,6 +1,8 @@
 package pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.WaitForSelectorState;
 import java.nio.file.Paths;
 
 
@@ -9,49 +11,84 @@ import java.nio.file.Paths;
  * Represents elements and actions available for the first page
  *
  * @author Riderzzz-code + Schlabaga
- * @version 2.1
+ * @version 2.5
  */
-public class Page1 {
+public class Page1 extends BasePage {
 
-    private final Page page;
+    // Selectors of the page elements, also used as keys of the action timings
+    private static final String TERMS_CHECKBOX = "#acceptTerms";
+    private static final String TERMS_LABEL = "label[for='acceptTerms']";
+    private static final String NEXT_LINK = "#nextLink";
+    private static final String PAGE_TITLE = "h1";
+
+    private static final Locator.WaitForOptions ATTACHED =
+            new Locator.WaitForOptions().setState(WaitForSelectorState.ATTACHED);
 
     // Locators for page elements
-    private final String termsCheckbox = "#acceptTerms";
-    private final String termsLabel = "label[for='acceptTerms']";
-    private final String nextLink = "#nextLink";
-    private final String pageTitle = "h1";
+    private final Locator termsCheckbox;
+    private final Locator termsLabel;
+    private final Locator nextLink;
+    private final Locator enabledNextLink;
+    private final Locator disabledNextLink;
+    private final Locator pageTitle;
 
     /**
      * Constructor
      * @param page Instance of Playwright Page
      */
     public Page1(Page page) {
-        this.page = page;
+        super(page);
+        termsCheckbox = page.locator(TERMS_CHECKBOX);
+        termsLabel = page.locator(TERMS_LABEL);
+        nextLink = page.locator(NEXT_LINK);
+        enabledNextLink = page.locator(NEXT_LINK + ".enabled");
+        disabledNextLink = page.locator(NEXT_LINK + ":not(.enabled)");
+        pageTitle = page.locator(PAGE_TITLE);
     }
 
     /**
      * Navigate to page1.html
-     * @param baseUrl Base URL of the application
+     * @param baseUrl Base URL of the application (http:// URL or directory of the webapp)
      */
     public void nav(String baseUrl) {
-        String fileUrl = "file://" + Paths.get(baseUrl, "page1.html").toAbsolutePath();
-        this.page.navigate(fileUrl);
+        measured("page1", "nav", () -> timed("Page1.nav", "page1.html", () -> {
+            if (baseUrl.startsWith("http://") || baseUrl.startsWith("https://")) {
+                this.page.navigate(baseUrl + "/page1.html");
+            } else {
+                String fileUrl = "file://" + Paths.get(baseUrl, "page1.html").toAbsolutePath();
+                this.page.navigate(fileUrl);
+            }
+        }));
     }
 
     /**
      * Check the terms and conditions checkbox
      */
     public void acceptTerms() {
-        this.page.check(termsCheckbox);
-        page.waitForTimeout(300); // Wait for javaScript to update the link
+        timed("Page1.acceptTerms", TERMS_CHECKBOX, () -> termsCheckbox.check());
+        waitForNextLinkEnabled();
     }
 
     /**
      * Uncheck the terms and conditions checkbox
      */
     public void declineTerms() {
-        this.page.uncheck(termsCheckbox);
-        page.waitForTimeout(300); // Wait for JavaScript to update the link
+        timed("Page1.declineTerms", TERMS_CHECKBOX, () -> termsCheckbox.uncheck());
+        waitForNextLinkDisabled();
+    }
+
+    /**
+     * Wait until JavaScript has added the "enabled" class to the next link
+     */
+    public void waitForNextLinkEnabled() {
+        timed("Page1.waitForNextLinkEnabled", NEXT_LINK, () -> enabledNextLink.waitFor(ATTACHED));
+    }
+
+    /**
+     * Wait until JavaScript has removed the "enabled" class from the next link
+     */
+    public void waitForNextLinkDisabled() {
+        timed("Page1.waitForNextLinkDisabled", NEXT_LINK, () -> disabledNextLink.waitFor(ATTACHED));
     }
 
     /**
@@ -59,14 +96,14 @@ public class Page1 {
      * @return true if checked, false otherwise
      */
     public boolean isTermsAccepted() {
-        return this.page.isChecked(termsCheckbox);
+        return timed("Page1.isTermsAccepted", TERMS_CHECKBOX, () -> termsCheckbox.isChecked());
     }
 
     /**
      * Click the Next link to navigate to page2.html
      */
     public void clickNextLink() {
-        this.page.click(nextLink);
+        timed("Page1.clickNextLink", NEXT_LINK, () -> nextLink.click());
     }
 
     /**
@@ -74,8 +111,7 @@ public class Page1 {
      * @return true if enabled, false otherwise
      */
     public boolean isNextLinkEnabled() {
-        String classValue = page.evaluate("document.querySelector('#nextLink').className").toString();
-        return classValue.contains("enabled");
+        return timed("Page1.isNextLinkEnabled", NEXT_LINK, () -> hasClass(nextLink, "enabled"));
     }
 
     /**
@@ -83,7 +119,7 @@ public class Page1 {
      * @return Title text from h1 element
      */
     public String getPageTitle() {
-        return this.page.textContent(pageTitle).trim();
+        return timed("Page1.getPageTitle", PAGE_TITLE, () -> pageTitle.textContent().trim());
     }
 
     /**
@@ -91,7 +127,7 @@ public class Page1 {
      * @return Label text
      */
     public String getTermsLabelText() {
-        return page.textContent(termsLabel).trim();
+        return timed("Page1.getTermsLabelText", TERMS_LABEL, () -> termsLabel.textContent().trim());
     }
 
     /**
@@ -99,7 +135,7 @@ public class Page1 {
      * @return true if on page 1, false otherwise
      */
     public boolean isOnPage() {
-        return page.title().equals("Nutzungsbedingungen");
+        return timed("Page1.isOnPage", "title", () -> page.title().equals("Nutzungsbedingungen"));
     }
 
     /**
@@ -115,7 +151,7 @@ public class Page1 {
      * @return true if visible, false otherwise
      */
     public boolean isCheckboxVisible() {
-        return page.isVisible(termsCheckbox);
+        return timed("Page1.isCheckboxVisible", TERMS_CHECKBOX, () -> termsCheckbox.isVisible());
     }
 
     /**
@@ -123,6 +159,6 @@ public class Page1 {
      * @return true if visible, false otherwise
      */
     public boolean isNextLinkVisible() {
-        return page.isVisible(nextLink);
+        return timed("Page1.isNextLinkVisible", NEXT_LINK, () -> nextLink.isVisible());
     }
 }
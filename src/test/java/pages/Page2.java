@@ -1,46 +1,117 @@
 package pages;
 
+import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object pour la page page2.html
  * Represents elements and actions available on the form page
  *
  * @author Schlabaga + Riderzzz-code
- * @version 2.0
+ * @version 2.6
  */
-public class Page2 {
+public class Page2 extends BasePage {
 
-    private final Page page;
+    private static final String SNAPSHOT_SCRIPT = """
+            () => {
+                const euResident = document.querySelector('input[name="euResident"]:checked');
+                const result = document.querySelector('#resultMessage');
+                return {
+                    acronym: document.querySelector('#acronym').value,
+                    country: document.querySelector('#country').value,
+                    euResident: euResident ? euResident.value : '',
+                    dataConsent: document.querySelector('#dataConsent').checked,
+                    resultClass: result.className,
+                    resultText: result.textContent.trim(),
+                    errors: Array.from(result.querySelectorAll('.error-list li'), li => li.textContent.trim()),
+                    bodyBackground: window.getComputedStyle(document.body).backgroundColor
+                };
+            }
+            """;
+
+    private static final String FAST_FILL_SCRIPT = """
+            ([acronym, country, euResident, consent]) => {
+                const fire = (element, ...types) => types.forEach(type =>
+                        element.dispatchEvent(new Event(type, { bubbles: true })));
+                const acronymInput = document.querySelector('#acronym');
+                acronymInput.value = acronym;
+                fire(acronymInput, 'input', 'change');
+                const countrySelect = document.querySelector('#country');
+                countrySelect.value = country;
+                fire(countrySelect, 'input', 'change');
+                if (euResident !== '') {
+                    const radio = document.querySelector(euResident === 'yes' ? '#euYes' : '#euNo');
+                    radio.checked = true;
+                    fire(radio, 'input', 'change');
+                }
+                if (consent) {
+                    const checkbox = document.querySelector('#dataConsent');
+                    checkbox.checked = true;
+                    fire(checkbox, 'input', 'change');
+                }
+            }
+            """;
+
+    // Selectors of the form elements, also used as keys of the action timings
+    private static final String ACRONYM_INPUT = "#acronym";
+    private static final String COUNTRY_SELECT = "#country";
+    private static final String EU_YES_RADIO = "#euYes";
+    private static final String EU_NO_RADIO = "#euNo";
+    private static final String DATA_CONSENT_CHECKBOX = "#dataConsent";
+    private static final String SUBMIT_BUTTON = "#submitButton";
+    private static final String BACK_LINK = "#backLink";
+    private static final String RESULT_MESSAGE = "#resultMessage";
+    private static final String PAGE_TITLE = "h1";
+
+    // Start of the console messages logged by the submit handler after displaying a success or an error
+    private static final String RESULT_LOG = "Formular";
 
     // Locators for forms elements
-    private final String acronymInput = "#acronym";
-    private final String countrySelect = "#country";
-    private final String euYesRadio = "#euYes";
-    private final String euNoRadio = "#euNo";
-    private final String dataConsentCheckbox = "#dataConsent";
-    private final String submitButton = "#submitButton";
-    private final String backLink = "#backLink";
-    private final String resultMessage = "#resultMessage";
-    private final String pageTitle = "h1";
+    private final Locator acronymInput;
+    private final Locator countrySelect;
+    private final Locator euYesRadio;
+    private final Locator euNoRadio;
+    private final Locator dataConsentCheckbox;
+    private final Locator submitButton;
+    private final Locator backLink;
+    private final Locator resultMessage;
+    private final Locator finishedResultMessage;
+    private final Locator pageTitle;
 
     /**
      * Constructor
      * @param page Instance de Playwright Page
      */
     public Page2(Page page) {
-        this.page = page;
+        super(page);
+        acronymInput = page.locator(ACRONYM_INPUT);
+        countrySelect = page.locator(COUNTRY_SELECT);
+        euYesRadio = page.locator(EU_YES_RADIO);
+        euNoRadio = page.locator(EU_NO_RADIO);
+        dataConsentCheckbox = page.locator(DATA_CONSENT_CHECKBOX);
+        submitButton = page.locator(SUBMIT_BUTTON);
+        backLink = page.locator(BACK_LINK);
+        resultMessage = page.locator(RESULT_MESSAGE);
+        finishedResultMessage = page.locator(RESULT_MESSAGE + ".success, " + RESULT_MESSAGE + ".error");
+        pageTitle = page.locator(PAGE_TITLE);
     }
 
     /**
      * Navigate to page2.html
-     * @param baseUrl Base URL of the web application
+     * @param baseUrl Base URL of the web application (http:// URL or directory of the webapp)
      */
     public void nav(String baseUrl) {
-        String fileUrl = "file://" + Paths.get(baseUrl, "page2.html").toAbsolutePath();
-        this.page.navigate(fileUrl);
-
+        measured("page2", "nav", () -> timed("Page2.nav", "page2.html", () -> {
+            if (baseUrl.startsWith("http://") || baseUrl.startsWith("https://")) {
+                this.page.navigate(baseUrl + "/page2.html");
+            } else {
+                String fileUrl = "file://" + Paths.get(baseUrl, "page2.html").toAbsolutePath();
+                this.page.navigate(fileUrl);
+            }
+        }));
     }
 
     /**
@@ -48,7 +119,7 @@ public class Page2 {
      * @param acronym Country acronym (e.g., "FR", "BE")
      */
     public void fillAcronym(String acronym) {
-        page.fill(acronymInput, acronym);
+        timed("Page2.fillAcronym", ACRONYM_INPUT, () -> acronymInput.fill(acronym));
     }
 
     /**
@@ -56,49 +127,78 @@ public class Page2 {
      * @param countryCode Country code to select (e.g., "FR", "BE")
      */
     public void selectCountry(String countryCode) {
-        page.selectOption(countrySelect, countryCode);
+        timed("Page2.selectCountry", COUNTRY_SELECT, () -> countrySelect.selectOption(countryCode));
     }
 
     /**
      * Select "Yes" for EU residence radio button
      */
     public void selectEuYes() {
-        page.check(euYesRadio);
+        timed("Page2.selectEuYes", EU_YES_RADIO, () -> euYesRadio.check());
     }
 
     /**
      * Select "No" for EU residence radio button
      */
     public void selectEuNo() {
-        page.check(euNoRadio);
+        timed("Page2.selectEuNo", EU_NO_RADIO, () -> euNoRadio.check());
     }
 
     /**
      * Check the data consent checkbox
      */
     public void checkDataConsent() {
-        page.check(dataConsentCheckbox);
+        timed("Page2.checkDataConsent", DATA_CONSENT_CHECKBOX, () -> dataConsentCheckbox.check());
     }
 
     /**
      * Uncheck the data consent checkbox
      */
     public void uncheckDataConsent() {
-        page.uncheck(dataConsentCheckbox);
+        timed("Page2.uncheckDataConsent", DATA_CONSENT_CHECKBOX, () -> dataConsentCheckbox.uncheck());
     }
 
     /**
      * Click the submit button
      */
     public void clickSubmit() {
-        page.click(submitButton);
+        measured("page2", "submit", () -> timed("Page2.clickSubmit", SUBMIT_BUTTON, () -> submitButton.click()));
+    }
+
+    /**
+     * Wait until the submit handler has marked the result message as success or error
+     */
+    public void waitForResult() {
+        timed("Page2.waitForResult", RESULT_MESSAGE, () -> finishedResultMessage.waitFor());
+    }
+
+    /**
+     * Submit the form and wait until the submit handler has displayed the result of this submission
+     * A previous result still matches {@link #waitForResult()}, so a resubmission waits for the message
+     * the handler logs at the end of every submission instead, whether or not the result changes
+     */
+    public void submitAndWaitForResult() {
+        timed("Page2.submitAndWaitForResult", SUBMIT_BUTTON, () -> page.waitForConsoleMessage(
+                new Page.WaitForConsoleMessageOptions().setPredicate(message -> message.text().startsWith(RESULT_LOG)),
+                this::clickSubmit));
+    }
+
+    /**
+     * Wait until the acronym input field holds the expected value
+     * @param expected Expected value (e.g. after the uppercase conversion)
+     */
+    public void waitForAcronymValue(String expected) {
+        timed("Page2.waitForAcronymValue", ACRONYM_INPUT, () -> {
+            page.waitForFunction("([selector, value]) => document.querySelector(selector).value === value",
+                    new String[]{ACRONYM_INPUT, expected});
+        });
     }
 
     /**
      * Click the back link to return to page 1
      */
     public void clickBackLink() {
-        page.click(backLink);
+        timed("Page2.clickBackLink", BACK_LINK, () -> backLink.click());
     }
 
     /**
@@ -106,7 +206,7 @@ public class Page2 {
      * @return Result message text
      */
     public String getResultMessage() {
-        return page.textContent(resultMessage).trim();
+        return timed("Page2.getResultMessage", RESULT_MESSAGE, () -> resultMessage.textContent().trim());
     }
 
     /**
@@ -114,7 +214,7 @@ public class Page2 {
      * @return true if visible, false otherwise
      */
     public boolean isResultMessageVisible() {
-        return page.isVisible(resultMessage);
+        return timed("Page2.isResultMessageVisible", RESULT_MESSAGE, () -> resultMessage.isVisible());
     }
 
     /**
@@ -122,8 +222,7 @@ public class Page2 {
      * @return true if success message, false otherwise
      */
     public boolean isResultSuccess() {
-        String classAttribute = page.getAttribute(resultMessage, "class");
-        return classAttribute != null && classAttribute.contains("success");
+        return timed("Page2.isResultSuccess", RESULT_MESSAGE, () -> hasClass(resultMessage, "success"));
     }
 
     /**
@@ -131,8 +230,7 @@ public class Page2 {
      * @return true if error message, false otherwise
      */
     public boolean isResultError() {
-        String classAttribute = page.getAttribute(resultMessage, "class");
-        return classAttribute != null && classAttribute.contains("error");
+        return timed("Page2.isResultError", RESULT_MESSAGE, () -> hasClass(resultMessage, "error"));
     }
 
     /**
@@ -140,7 +238,7 @@ public class Page2 {
      * @return Current value in acronym field
      */
     public String getAcronymValue() {
-        return page.inputValue(acronymInput);
+        return timed("Page2.getAcronymValue", ACRONYM_INPUT, () -> acronymInput.inputValue());
     }
 
     /**
@@ -148,7 +246,7 @@ public class Page2 {
      * @return Selected country code
      */
     public String getSelectedCountry() {
-        return page.inputValue(countrySelect);
+        return timed("Page2.getSelectedCountry", COUNTRY_SELECT, () -> countrySelect.inputValue());
     }
 
     /**
@@ -156,7 +254,7 @@ public class Page2 {
      * @return true if checked, false otherwise
      */
     public boolean isEuYesChecked() {
-        return page.isChecked(euYesRadio);
+        return timed("Page2.isEuYesChecked", EU_YES_RADIO, () -> euYesRadio.isChecked());
     }
 
     /**
@@ -164,7 +262,7 @@ public class Page2 {
      * @return true if checked, false otherwise
      */
     public boolean isEuNoChecked() {
-        return page.isChecked(euNoRadio);
+        return timed("Page2.isEuNoChecked", EU_NO_RADIO, () -> euNoRadio.isChecked());
     }
 
     /**
@@ -172,7 +270,7 @@ public class Page2 {
      * @return true if checked, false otherwise
      */
     public boolean isDataConsentChecked() {
-        return page.isChecked(dataConsentCheckbox);
+        return timed("Page2.isDataConsentChecked", DATA_CONSENT_CHECKBOX, () -> dataConsentCheckbox.isChecked());
     }
 
     /**
@@ -180,7 +278,7 @@ public class Page2 {
      * @return Title text from h1 element
      */
     public String getPageTitle() {
-        return page.textContent(pageTitle).trim();
+        return timed("Page2.getPageTitle", PAGE_TITLE, () -> pageTitle.textContent().trim());
     }
 
     /**
@@ -188,7 +286,7 @@ public class Page2 {
      * @return true if on page 2, false otherwise
      */
     public boolean isOnPage() {
-        return page.title().equals("Länderauswahl Formular");
+        return timed("Page2.isOnPage", "title", () -> page.title().equals("Länderauswahl Formular"));
     }
 
     /**
@@ -196,7 +294,27 @@ public class Page2 {
      * @return Background color as RGB string
      */
     public String getBodyBackgroundColor() {
-        return (String) page.evaluate("window.getComputedStyle(document.body).backgroundColor");
+        return timed("Page2.getBodyBackgroundColor", "body",
+                () -> (String) page.evaluate("window.getComputedStyle(document.body).backgroundColor"));
+    }
+
+    /**
+     * Read the whole state of the form and the result message in one round trip
+     * @return Immutable snapshot of the page
+     */
+    @SuppressWarnings("unchecked")
+    public FormState snapshot() {
+        Map<String, Object> state = timed("Page2.snapshot", "form", () -> (Map<String, Object>) page.evaluate(SNAPSHOT_SCRIPT));
+        return new FormState(
+                (String) state.get("acronym"),
+                (String) state.get("country"),
+                (String) state.get("euResident"),
+                (Boolean) state.get("dataConsent"),
+                (String) state.get("resultClass"),
+                (String) state.get("resultText"),
+                (List<String>) state.get("errors"),
+                (String) state.get("bodyBackground")
+        );
     }
 
     /**
@@ -207,6 +325,26 @@ public class Page2 {
      * @param consent true to check consent, false otherwise
      */
     public void fillCompleteForm(String acronym, String country, boolean euResident, boolean consent) {
+        fillCompleteForm(acronym, country, euResident, consent, FillMode.USER);
+    }
+
+    /**
+     * Fill the complete form with all required fields
+     * FAST mode sets all fields in one round trip and skips the actionability checks,
+     * use it where only the validation result matters
+     * @param acronym Country acronym
+     * @param country Country code
+     * @param euResident true for Yes, false for No
+     * @param consent true to check consent, false otherwise
+     * @param mode USER for one Playwright action per field, FAST for a single evaluated script
+     */
+    public void fillCompleteForm(String acronym, String country, boolean euResident, boolean consent, FillMode mode) {
+        if (mode == FillMode.FAST) {
+            timed("Page2.fillCompleteForm.fast", "form",
+                    () -> page.evaluate(FAST_FILL_SCRIPT, new Object[]{acronym, country, euResident ? "yes" : "no", consent}));
+            return;
+        }
+
         fillAcronym(acronym);
         selectCountry(country);
 
@@ -220,4 +358,14 @@ public class Page2 {
             checkDataConsent();
         }
     }
+
+    /**
+     * Fill a freshly loaded form with any input, including empty fields, in one round trip
+     * Empty values leave the field in its initial state
+     * @param input Values to enter
+     */
+    public void fillForm(FormInput input) {
+        timed("Page2.fillForm", "form", () -> page.evaluate(FAST_FILL_SCRIPT,
+                new Object[]{input.acronym(), input.country(), input.euResident(), input.dataConsent()}));
+    }
 }
\ No newline at end of file
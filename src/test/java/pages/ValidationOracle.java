@@ -0,0 +1,102 @@
+package pages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * JVM-side copy of the validation rules of page2.html
+ * Computes the expected result of any form input without a browser, in the order and with the
+ * messages of the inline script of the page
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class ValidationOracle {
+
+    /** Same list as EU_Countries in page2.html */
+    public static final Set<String> EU_COUNTRIES = Set.of("FR", "BE", "DK", "DE");
+
+    public static final String MISSING_ACRONYM = "Bitte geben Sie ein Länderakronym ein.";
+    public static final String MISSING_COUNTRY = "Bitte wählen Sie ein Land aus.";
+    public static final String MISSING_EU_RESIDENT = "Bitte geben Sie an, ob Sie in der EU wohnen.";
+    public static final String MISSING_CONSENT = "Sie müssen der Datenverarbeitung zustimmen.";
+    public static final String ACRONYM_MISMATCH = "Das eingegebene Länderakronym stimmt nicht mit dem ausgewählten Land überein.";
+    public static final String EU_YES_NON_EU_COUNTRY = "Sie haben angegeben, in der EU zu wohnen, aber das gewählte Land ist nicht Teil der EU.";
+    public static final String EU_NO_EU_COUNTRY = "Sie haben angegeben, nicht in der EU zu wohnen, aber das gewählte Land ist Teil der EU.";
+
+    private ValidationOracle() {
+    }
+
+    /**
+     * Compute the expected result of submitting an input
+     * @param input Input of the form
+     * @return Expected result class and error messages
+     */
+    public static Outcome validate(FormInput input) {
+        String acronym = input.acronym().trim().toUpperCase(Locale.ROOT);
+        String country = input.country();
+        String euResident = input.euResident();
+        List<String> errors = new ArrayList<>();
+
+        // Check if all fields are filled
+        if (acronym.isEmpty()) {
+            errors.add(MISSING_ACRONYM);
+        }
+        if (country.isEmpty()) {
+            errors.add(MISSING_COUNTRY);
+        }
+        if (euResident.isEmpty()) {
+            errors.add(MISSING_EU_RESIDENT);
+        }
+        if (!input.dataConsent()) {
+            errors.add(MISSING_CONSENT);
+        }
+
+        // Check if acronym matches selected country
+        if (!acronym.isEmpty() && !country.isEmpty() && !acronym.equals(country)) {
+            errors.add(ACRONYM_MISMATCH);
+        }
+
+        // Check EU residency consistency, based on the acronym like the page does
+        if (!euResident.isEmpty() && !acronym.isEmpty()) {
+            boolean isEuCountry = EU_COUNTRIES.contains(acronym);
+            boolean selectedYes = euResident.equals("yes");
+            if (selectedYes && !isEuCountry) {
+                errors.add(EU_YES_NON_EU_COUNTRY);
+            } else if (!selectedYes && isEuCountry) {
+                errors.add(EU_NO_EU_COUNTRY);
+            }
+        }
+
+        return new Outcome(errors);
+    }
+
+    /**
+     * Expected result of a submission
+     * @param errors Expected error messages in display order, empty on success
+     */
+    public record Outcome(List<String> errors) {
+
+        public Outcome {
+            errors = List.copyOf(errors);
+        }
+
+        /**
+         * Check if the submission should succeed
+         * @return true if no error is expected
+         */
+        public boolean isSuccess() {
+            return errors.isEmpty();
+        }
+
+        /**
+         * Get the expected class of the result message
+         * @return "success" or "error"
+         */
+        public String resultClass() {
+            return isSuccess() ? "success" : "error";
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package support;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Latency histograms of the page-object actions, per action and selector
+ * Enabled with -Dtimings=true or by the perf profile, the summary table is printed at the end of the run
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class ActionTimings implements ExtensionContext.Store.CloseableResource {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("timings", String.valueOf(ExecutionProfile.current().name().equals("perf"))));
+
+    private static final Map<String, Map<String, LatencyHistogram>> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    /**
+     * Check if the actions are timed in this run
+     * @return true if timings are recorded
+     */
+    public static boolean enabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Record the latency of one action
+     * @param action Qualified action name (e.g. "Page1.acceptTerms")
+     * @param selector Selector or resource the action worked on
+     * @param nanos Latency in nanoseconds
+     */
+    public static void record(String action, String selector, long nanos) {
+        HISTOGRAMS.computeIfAbsent(action, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(selector, key -> new LatencyHistogram())
+                .record(nanos);
+    }
+
+    /**
+     * Print the summary table, sorted by the total time spent per action
+     * @param out Stream to print to
+     */
+    public static void printSummary(PrintStream out) {
+        record Row(String action, String selector, LatencyHistogram histogram) {
+        }
+        List<Row> rows = new ArrayList<>();
+        HISTOGRAMS.forEach((action, bySelector) ->
+                bySelector.forEach((selector, histogram) -> rows.add(new Row(action, selector, histogram))));
+        if (rows.isEmpty()) {
+            return;
+        }
+        rows.sort(Comparator.comparingLong((Row row) -> row.histogram().total()).reversed());
+
+        out.println();
+        out.println("Page-object action timings (ms)");
+        out.printf("%-32s %-34s %7s %9s %8s %8s %8s %8s%n",
+                "action", "selector", "count", "total", "p50", "p95", "p99", "max");
+        for (Row row : rows) {
+            LatencyHistogram histogram = row.histogram();
+            out.printf("%-32s %-34s %7d %9.1f %8.2f %8.2f %8.2f %8.2f%n",
+                    row.action(), row.selector(), histogram.count(), millis(histogram.total()),
+                    millis(histogram.percentile(50)), millis(histogram.percentile(95)),
+                    millis(histogram.percentile(99)), millis(histogram.max()));
+        }
+    }
+
+    /**
+     * Print the summary when the run ends
+     */
+    @Override
+    public void close() {
+        printSummary(System.out);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
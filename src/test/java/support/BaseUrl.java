@@ -0,0 +1,18 @@
+package support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a String parameter that receives the base URL of the web application
+ * Resolved by the PlaywrightExtension according to the ServeMode of the run
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BaseUrl {
+}
@@ -0,0 +1,319 @@
+package support;
+
+import com.microsoft.playwright.Playwright;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local daemon keeping a headless Chromium running between Maven invocations
+ * The browser listens for CDP connections on a loopback port, the test runtime connects to it instead of
+ * launching its own browser as long as the daemon answers its health check and was launched the way the
+ * current profile would launch it (same arguments, bundled Chromium), and launches normally otherwise.
+ * The daemon is launched with the arguments of the profile it is started with (-Dprofile, -Dbrowser.args)
+ * Every run that connects touches the state file, the daemon stops after -Ddaemon.idleMinutes (default: 30)
+ * without a connecting run and without open pages.
+ *
+ * Start:  mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=support.BrowserDaemon
+ * Status: ... -Dexec.args=status, stop: ... -Dexec.args=stop
+ * Disable for a run with -Dbrowser.daemon=false
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.3
+ */
+public final class BrowserDaemon {
+
+    /** State file shared by the daemon and the test runs, kept outside target/ to survive mvn clean */
+    static final Path STATE_FILE = Paths.get(System.getProperty("java.io.tmpdir"), "webtesting-browser-daemon.properties");
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("browser.daemon", "true"));
+    private static final String ARGS_SEPARATOR = "\n";
+    private static final Duration HEALTH_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(10);
+    private static final Pattern PAGE_TARGET = Pattern.compile("\"type\"\\s*:\\s*\"page\"");
+
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(HEALTH_TIMEOUT).build();
+
+    private BrowserDaemon() {
+    }
+
+    /**
+     * Find the endpoint of a running, healthy daemon launched the way a profile launches Chromium
+     * @param profile Execution profile of the run
+     * @return CDP endpoint URL to connect to, empty if the daemon is disabled, not running, not answering
+     * or launched with another channel or other arguments
+     */
+    public static Optional<String> endpoint(ExecutionProfile profile) {
+        Optional<String> endpoint = state()
+                .filter(state -> state.getProperty("channel", "").equals(Objects.toString(profile.channel(), ""))
+                        && state.getProperty("args", "").equals(String.join(ARGS_SEPARATOR, profile.args())))
+                .map(state -> state.getProperty("endpoint"))
+                .filter(BrowserDaemon::isHealthy);
+        endpoint.ifPresent(used -> touchState());
+        return endpoint;
+    }
+
+    /**
+     * Record a use of the daemon, which counts as activity for the idle shutdown
+     */
+    private static void touchState() {
+        try {
+            Files.setLastModifiedTime(STATE_FILE, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (IOException e) {
+            // The daemon may just have stopped, the run launches its own browser next time
+        }
+    }
+
+    /**
+     * Get the time of the last use recorded by a connecting run
+     * @return Modification time of the state file in epoch milliseconds, 0 if it cannot be read
+     */
+    private static long lastUse() {
+        try {
+            return Files.getLastModifiedTime(STATE_FILE).toMillis();
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Find the endpoint of a running, healthy daemon, whatever its launch arguments
+     * @return CDP endpoint URL, empty if the daemon is disabled, not running or not answering
+     */
+    private static Optional<String> runningEndpoint() {
+        return state().map(state -> state.getProperty("endpoint")).filter(BrowserDaemon::isHealthy);
+    }
+
+    /**
+     * Check that a daemon browser answers on its endpoint
+     * @param endpoint CDP endpoint URL (e.g. "http://127.0.0.1:9222")
+     * @return true if /json/version answers with 200
+     */
+    static boolean isHealthy(String endpoint) {
+        if (endpoint == null) {
+            return false;
+        }
+        try {
+            return get(endpoint + "/json/version").statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Entry point of the daemon
+     * @param args "start" (default), "status" or "stop"
+     */
+    public static void main(String[] args) throws Exception {
+        String command = args.length > 0 ? args[0] : "start";
+        switch (command) {
+            case "start" -> start();
+            case "status" -> System.out.println(runningEndpoint().map(endpoint -> "Running on " + endpoint).orElse("Not running"));
+            case "stop" -> stop();
+            default -> throw new IllegalArgumentException("Unknown command '" + command + "', expected start, status or stop");
+        }
+    }
+
+    /**
+     * Launch the browser and serve it until it has been idle long enough
+     */
+    private static void start() throws Exception {
+        Optional<String> running = runningEndpoint();
+        if (running.isPresent()) {
+            System.out.println("Already running on " + running.get());
+            return;
+        }
+
+        List<String> args = ExecutionProfile.current().args();
+        SharedChromium chromium = launchChromium(args);
+        Process browser = chromium.process();
+        String endpoint = chromium.endpoint();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            browser.destroy();
+            try {
+                Files.deleteIfExists(STATE_FILE);
+            } catch (IOException e) {
+                // Nothing left to do while shutting down
+            }
+        }));
+
+        Properties state = new Properties();
+        state.setProperty("endpoint", endpoint);
+        state.setProperty("pid", String.valueOf(ProcessHandle.current().pid()));
+        // Bundled Chromium, the channel of the profiles that may connect is empty
+        state.setProperty("channel", "");
+        state.setProperty("args", String.join(ARGS_SEPARATOR, args));
+        try (OutputStream out = Files.newOutputStream(STATE_FILE)) {
+            state.store(out, "Browser daemon of webTesting");
+        }
+        System.out.println("Browser daemon running on " + endpoint + " with " + args);
+
+        Duration idleLimit = Duration.ofMinutes(Long.getLong("daemon.idleMinutes", 30));
+        int baselinePages = countPages(endpoint);
+        // Wall-clock time, to compare with the use recorded in the state file by the runs
+        long lastActive = System.currentTimeMillis();
+        while (browser.isAlive()) {
+            Thread.sleep(POLL_INTERVAL.toMillis());
+            // Open pages keep a long run alive, the recorded use catches the short ones between two polls
+            if (countPages(endpoint) > baselinePages) {
+                lastActive = System.currentTimeMillis();
+            }
+            lastActive = Math.max(lastActive, lastUse());
+            if (System.currentTimeMillis() - lastActive > idleLimit.toMillis()) {
+                System.out.println("Idle for " + idleLimit.toMinutes() + " min, stopping");
+                break;
+            }
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Launch the bundled Chromium headless, accepting CDP connections on a loopback port
+     * Any number of Playwright drivers, on any thread, can connect to it with connectOverCDP
+     * @param args Additional launch arguments, usually those of the execution profile
+     * @return Browser process and its endpoint, closing it stops the browser
+     * @throws IOException if the browser cannot be started
+     */
+    public static SharedChromium launchChromium(List<String> args) throws IOException {
+        String executable;
+        try (Playwright playwright = Playwright.create()) {
+            executable = playwright.chromium().executablePath();
+        }
+        Path userDataDir = Files.createTempDirectory("webtesting-browser-daemon");
+        List<String> command = new ArrayList<>(List.of(executable, "--headless=new", "--no-first-run",
+                "--no-default-browser-check", "--remote-debugging-address=127.0.0.1", "--remote-debugging-port=0",
+                "--user-data-dir=" + userDataDir));
+        command.addAll(args);
+        Process browser = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try {
+            return new SharedChromium(browser, "http://127.0.0.1:" + awaitPort(userDataDir.resolve("DevToolsActivePort"), browser));
+        } catch (InterruptedException e) {
+            browser.destroy();
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while starting the browser", e);
+        }
+    }
+
+    /**
+     * Stop a running daemon
+     */
+    private static void stop() {
+        if (!Files.exists(STATE_FILE)) {
+            System.out.println("Not running");
+            return;
+        }
+        long pid = Long.parseLong(readState().getProperty("pid", "-1"));
+        boolean stopped = ProcessHandle.of(pid).map(ProcessHandle::destroy).orElse(false);
+        System.out.println(stopped ? "Stopped" : "Not running");
+    }
+
+    /**
+     * Wait for Chromium to report its debugging port
+     * @param portFile DevToolsActivePort file in the user data directory
+     * @param browser Browser process
+     * @return Port number
+     */
+    private static int awaitPort(Path portFile, Process browser) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (System.nanoTime() < deadline && browser.isAlive()) {
+            if (Files.exists(portFile)) {
+                List<String> lines = Files.readAllLines(portFile);
+                if (!lines.isEmpty() && !lines.get(0).isBlank()) {
+                    return Integer.parseInt(lines.get(0).trim());
+                }
+            }
+            Thread.sleep(50);
+        }
+        browser.destroy();
+        throw new IllegalStateException("Browser did not open its debugging port");
+    }
+
+    /**
+     * Count the open pages of the browser
+     * @param endpoint CDP endpoint URL
+     * @return Number of page targets, -1 if the browser does not answer
+     */
+    private static int countPages(String endpoint) {
+        try {
+            Matcher pages = PAGE_TARGET.matcher(get(endpoint + "/json/list").body());
+            int count = 0;
+            while (pages.find()) {
+                count++;
+            }
+            return count;
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static HttpResponse<String> get(String url) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(HEALTH_TIMEOUT).GET().build();
+        return HTTP.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    /**
+     * Read the state file of the daemon
+     * @return State, empty if the daemon is disabled or the file is missing or unreadable
+     */
+    private static Optional<Properties> state() {
+        if (!ENABLED || !Files.exists(STATE_FILE)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(readState());
+        } catch (UncheckedIOException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Properties readState() {
+        Properties state = new Properties();
+        try (InputStream in = Files.newInputStream(STATE_FILE)) {
+            state.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + STATE_FILE, e);
+        }
+        return state;
+    }
+
+    /**
+     * Chromium process shared over CDP
+     * @param process Browser process
+     * @param endpoint CDP endpoint URL (e.g. "http://127.0.0.1:9222")
+     */
+    public record SharedChromium(Process process, String endpoint) implements AutoCloseable {
+
+        /**
+         * Stop the browser
+         */
+        @Override
+        public void close() {
+            process.destroy();
+        }
+    }
+}
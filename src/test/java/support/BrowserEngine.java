@@ -0,0 +1,85 @@
+package support;
+
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Browser engines the tests can run against
+ * The engines of a run are selected with -Dbrowsers (comma separated, default: chromium)
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public enum BrowserEngine {
+
+    CHROMIUM, FIREFOX, WEBKIT;
+
+    private static final List<BrowserEngine> CONFIGURED = parse(System.getProperty("browsers", "chromium"));
+
+    /**
+     * Get the engines of this run
+     * @return Engines selected by -Dbrowsers, in the given order
+     */
+    public static List<BrowserEngine> configured() {
+        return CONFIGURED;
+    }
+
+    /**
+     * Get the engine used by tests which do not run on every engine
+     * @return First engine selected by -Dbrowsers
+     */
+    public static BrowserEngine primary() {
+        return CONFIGURED.get(0);
+    }
+
+    /**
+     * Parse a list of engine names
+     * @param names Comma separated names (e.g. "chromium,firefox,webkit")
+     * @return Distinct engines in the given order
+     */
+    static List<BrowserEngine> parse(String names) {
+        List<BrowserEngine> engines = Arrays.stream(names.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .map(BrowserEngine::of)
+                .distinct()
+                .toList();
+        if (engines.isEmpty()) {
+            throw new IllegalArgumentException("No browser engine selected, expected chromium, firefox and/or webkit");
+        }
+        return engines;
+    }
+
+    private static BrowserEngine of(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown browser '" + name + "', expected chromium, firefox or webkit");
+        }
+    }
+
+    /**
+     * Get the browser type of this engine
+     * @param playwright Playwright driver
+     * @return Browser type launching this engine
+     */
+    public BrowserType type(Playwright playwright) {
+        return switch (this) {
+            case CHROMIUM -> playwright.chromium();
+            case FIREFOX -> playwright.firefox();
+            case WEBKIT -> playwright.webkit();
+        };
+    }
+
+    /**
+     * Get the name of this engine as used by Playwright and -Dbrowsers
+     * @return Lower-case name (e.g. "firefox")
+     */
+    public String id() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
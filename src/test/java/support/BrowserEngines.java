@@ -0,0 +1,69 @@
+package support;
+
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Invocations of a {@link BrowserTest}, one per engine of the run
+ * The invocations are independent tests, so they run in parallel like any other test.
+ * Before the first invocation, every engine is checked to be installed with the driver the calling thread
+ * runs its tests with: a missing engine fails all browser tests at once instead of each of them timing out
+ * on launch. A Chromium started from a channel or provided by the daemon is not checked
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+class BrowserEngines implements TestTemplateInvocationContextProvider {
+
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(BrowserEngines.class);
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod().map(method -> method.isAnnotationPresent(BrowserTest.class)).orElse(false);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+        Installation installation = context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(Installation.class, key -> Installation.check(context), Installation.class);
+        if (!installation.missing().isEmpty()) {
+            throw new IllegalStateException("Browser engines not installed: " + installation.missing()
+                    + ", install them with: mvn exec:java -e -Dexec.mainClass=com.microsoft.playwright.CLI"
+                    + " -Dexec.args=\"install " + String.join(" ", installation.missing()) + "\"");
+        }
+        return BrowserEngine.configured().stream().map(EngineInvocation::new);
+    }
+
+    /**
+     * Engines of the run whose executable is missing, checked once per run
+     * @param missing Names of the missing engines
+     */
+    private record Installation(List<String> missing) {
+
+        static Installation check(ExtensionContext context) {
+            return new Installation(PlaywrightExtension.runtime(context).missingEngines(BrowserEngine.configured()));
+        }
+    }
+
+    /**
+     * One invocation of a browser test, named after its engine
+     * @param engine Engine the invocation runs on
+     */
+    private record EngineInvocation(BrowserEngine engine) implements TestTemplateInvocationContext {
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return "[" + engine.id() + "]";
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(new PlaywrightExtension(engine));
+        }
+    }
+}
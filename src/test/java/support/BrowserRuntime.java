@@ -0,0 +1,161 @@
+package support;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Suite-wide Playwright runtime
+ * Playwright is not thread-safe, so every worker thread of the run gets its own driver, and one browser
+ * and context pool per engine, created on first use and kept until the end of the run. When a BrowserDaemon
+ * is running, the drivers connect to its warm Chromium instead of launching one
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.8
+ */
+final class BrowserRuntime implements ExtensionContext.Store.CloseableResource {
+
+    private final ExecutionProfile profile;
+    private final Consumer<BrowserContext> contextSetup;
+    private final ThreadLocal<ThreadRuntime> threadRuntime = ThreadLocal.withInitial(this::start);
+    private final Queue<ThreadRuntime> started = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Constructor
+     * @param profile Execution profile of the run
+     * @param contextSetup Configuration applied once to every new context
+     */
+    BrowserRuntime(ExecutionProfile profile, Consumer<BrowserContext> contextSetup) {
+        this.profile = profile;
+        this.contextSetup = contextSetup;
+    }
+
+    /**
+     * Get the browser of an engine confined to the calling thread
+     * @param engine Browser engine
+     * @return Browser launched by and for the calling thread
+     */
+    Browser browser(BrowserEngine engine) {
+        return engineBrowser(engine).browser();
+    }
+
+    /**
+     * Get the context pool of an engine confined to the calling thread
+     * @param engine Browser engine
+     * @return Pool of contexts of the calling thread's browser
+     */
+    ContextPool contexts(BrowserEngine engine) {
+        return engineBrowser(engine).contexts();
+    }
+
+    /**
+     * Find the engines of the run that are not installed, with the driver of the calling thread
+     * Chromium is not checked when the profile selects a channel or a daemon browser is running for it,
+     * the bundled executable is not used then
+     * @param engines Engines of the run
+     * @return Ids of the engines whose bundled executable is missing
+     */
+    List<String> missingEngines(List<BrowserEngine> engines) {
+        Playwright playwright = threadRuntime.get().playwright();
+        return engines.stream()
+                .filter(engine -> engine != BrowserEngine.CHROMIUM
+                        || profile.channel() == null && daemonEndpoint(engine).isEmpty())
+                .filter(engine -> !Files.isExecutable(Paths.get(engine.type(playwright).executablePath())))
+                .map(BrowserEngine::id)
+                .toList();
+    }
+
+    /**
+     * Close all browsers and drivers at the end of the run
+     */
+    @Override
+    public void close() {
+        ThreadRuntime runtime;
+        while ((runtime = started.poll()) != null) {
+            runtime.close();
+        }
+    }
+
+    /**
+     * Start a driver for the calling thread
+     * @return Driver of the calling thread, without browser yet
+     */
+    private ThreadRuntime start() {
+        ThreadRuntime runtime = new ThreadRuntime(Playwright.create(), new EnumMap<>(BrowserEngine.class));
+        started.add(runtime);
+        return runtime;
+    }
+
+    /**
+     * Get the browser of an engine for the calling thread, launching it on first use
+     * @param engine Browser engine
+     * @return Browser and its context pool
+     */
+    private EngineBrowser engineBrowser(BrowserEngine engine) {
+        ThreadRuntime runtime = threadRuntime.get();
+        return runtime.browsers().computeIfAbsent(engine, key -> launch(runtime.playwright(), key));
+    }
+
+    /**
+     * Launch the browser of an engine for the calling thread
+     * @param playwright Driver of the calling thread
+     * @param engine Browser engine
+     * @return Browser and its context pool
+     */
+    private EngineBrowser launch(Playwright playwright, BrowserEngine engine) {
+        Browser browser = daemonEndpoint(engine)
+                .map(endpoint -> playwright.chromium().connectOverCDP(endpoint,
+                        new BrowserType.ConnectOverCDPOptions().setSlowMo(profile.slowMo())))
+                .orElseGet(() -> engine.type(playwright).launch(profile.launchOptions(engine)));
+        return new EngineBrowser(browser, new ContextPool(browser, contextSetup, profile.reducedMotion()));
+    }
+
+    /**
+     * Get the endpoint of the warm browser daemon, if this run can use it
+     * The daemon runs a headless Chromium, so it is only used by headless profiles on that engine, and only
+     * when it was launched with the channel and arguments of the profile
+     * @param engine Browser engine to launch
+     * @return CDP endpoint of a healthy daemon, empty to launch a browser
+     */
+    private Optional<String> daemonEndpoint(BrowserEngine engine) {
+        return engine == BrowserEngine.CHROMIUM && profile.headless() ? BrowserDaemon.endpoint(profile) : Optional.empty();
+    }
+
+    /**
+     * Driver and browsers owned by one thread
+     * @param playwright Playwright driver
+     * @param browsers Browsers launched with this driver, by engine
+     */
+    private record ThreadRuntime(Playwright playwright, Map<BrowserEngine, EngineBrowser> browsers) {
+
+        void close() {
+            browsers.values().forEach(EngineBrowser::close);
+            playwright.close();
+        }
+    }
+
+    /**
+     * Browser of one engine and its context pool
+     * @param browser Browser launched for the engine
+     * @param contexts Pool of contexts of this browser
+     */
+    private record EngineBrowser(Browser browser, ContextPool contexts) {
+
+        void close() {
+            contexts.close();
+            browser.close();
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package support;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Test running once on every browser engine of the run (-Dbrowsers)
+ * Replaces @Test together with the class-level PlaywrightExtension: every invocation gets its own
+ * engine-bound extension, so Page, BrowserContext and @BaseUrl parameters resolve as usual
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(BrowserEngines.class)
+public @interface BrowserTest {
+}
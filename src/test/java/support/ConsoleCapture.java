@@ -0,0 +1,142 @@
+package support;
+
+import com.microsoft.playwright.BrowserContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Predicate;
+
+/**
+ * Console messages and uncaught errors of the pages of one context
+ * Every message is written into a fixed-size ring buffer: a writer claims a sequence number and stores
+ * the message in the slot of that number, overwriting the oldest one, without locking. Readers skip the
+ * slots already overwritten by a newer message. Capacity set with -Dconsole.capacity (default: 256),
+ * -Dconsole.failOnError=true fails a test whose pages threw an uncaught error
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class ConsoleCapture {
+
+    private static final int CAPACITY = Integer.highestOneBit(Math.max(2, Integer.getInteger("console.capacity", 256)));
+    private static final boolean FAIL_ON_ERROR = Boolean.getBoolean("console.failOnError");
+
+    private final BrowserContext context;
+    private final AtomicReferenceArray<Message> slots = new AtomicReferenceArray<>(CAPACITY);
+    private final AtomicLong next = new AtomicLong();
+    private final AtomicLong start = new AtomicLong();
+
+    private ConsoleCapture(BrowserContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Start capturing the console messages and errors of every page of a context
+     * @param context Context to listen to
+     * @return Capture of the context
+     */
+    static ConsoleCapture attach(BrowserContext context) {
+        ConsoleCapture capture = new ConsoleCapture(context);
+        context.onConsoleMessage(message -> capture.add(message.type(), message.text()));
+        context.onWebError(error -> capture.add(Message.PAGE_ERROR, error.error()));
+        return capture;
+    }
+
+    /**
+     * Check if the tests fail on uncaught page errors in this run
+     * @return true if -Dconsole.failOnError=true
+     */
+    static boolean failOnError() {
+        return FAIL_ON_ERROR;
+    }
+
+    /**
+     * Get the captured messages still held by the buffer
+     * @return Messages in the order they were logged, oldest first
+     */
+    public List<Message> messages() {
+        return messagesSince(start.get());
+    }
+
+    /**
+     * Get the uncaught errors still held by the buffer
+     * @return Errors in the order they were thrown, oldest first
+     */
+    public List<Message> pageErrors() {
+        return messages().stream().filter(Message::isPageError).toList();
+    }
+
+    /**
+     * Wait until a message containing a text has been logged
+     * Messages logged before the call count as well, as long as they are still in the buffer
+     * @param text Text the message has to contain (e.g. "Link aktiviert")
+     * @return First matching message
+     * @throws com.microsoft.playwright.TimeoutError if no message matched within the default timeout of the context
+     */
+    public Message awaitMessage(String text) {
+        return awaitMessage(message -> message.text().contains(text));
+    }
+
+    /**
+     * Wait until a message matching a condition has been logged
+     * Events are dispatched while waiting, no DOM is queried
+     * @param condition Condition on the message
+     * @return First matching message
+     * @throws com.microsoft.playwright.TimeoutError if no message matched within the default timeout of the context
+     */
+    public Message awaitMessage(Predicate<Message> condition) {
+        context.waitForCondition(() -> find(condition).isPresent());
+        return find(condition).orElseThrow();
+    }
+
+    /**
+     * Forget all captured messages, when the context is handed to the next test
+     */
+    void clear() {
+        start.set(next.get());
+    }
+
+    private Optional<Message> find(Predicate<Message> condition) {
+        return messages().stream().filter(condition).findFirst();
+    }
+
+    private void add(String type, String text) {
+        long sequence = next.getAndIncrement();
+        slots.set(slot(sequence), new Message(sequence, type, text));
+    }
+
+    private List<Message> messagesSince(long from) {
+        long end = next.get();
+        List<Message> messages = new ArrayList<>();
+        for (long sequence = Math.max(from, end - CAPACITY); sequence < end; sequence++) {
+            Message message = slots.get(slot(sequence));
+            // Skip slots not written yet or already overwritten by a newer message
+            if (message != null && message.sequence() == sequence) {
+                messages.add(message);
+            }
+        }
+        return messages;
+    }
+
+    private static int slot(long sequence) {
+        return (int) (sequence & (CAPACITY - 1));
+    }
+
+    /**
+     * One captured console message or uncaught error
+     * @param sequence Position of the message in the capture
+     * @param type Console type ("log", "error", ...) or "pageerror" for an uncaught error
+     * @param text Text of the message
+     */
+    public record Message(long sequence, String type, String text) {
+
+        static final String PAGE_ERROR = "pageerror";
+
+        public boolean isPageError() {
+            return type.equals(PAGE_ERROR);
+        }
+    }
+}
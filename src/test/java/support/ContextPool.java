@@ -0,0 +1,225 @@
+package support;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ReducedMotion;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+
+/**
+ * Bounded pool of reusable browser contexts
+ * A released context is reset (cookies, storage, permissions, extra pages, captured console) and handed out again,
+ * until it has served the configured number of tests and is replaced by a new one.
+ * Like the browser it belongs to, a pool is confined to one thread.
+ * With reduced motion, the contexts prefer reduced motion and every document gets a stylesheet
+ * turning off CSS transitions and animations; a context with the real animations is created
+ * on demand, outside the pool. {@link #newContext(Browser, boolean)} creates contexts the same way
+ * for code that does not lease from a pool.
+ * Configured with -Dpool.size (default: 4) and -Dpool.maxUses (default: 50)
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.3
+ */
+final class ContextPool implements AutoCloseable {
+
+    private static final String CLEAR_STORAGE =
+            "() => { try { localStorage.clear(); sessionStorage.clear(); } catch (e) { /* opaque origin */ } }";
+
+    private static final String DISABLE_MOTION = """
+            (() => {
+                const add = () => {
+                    const style = document.createElement('style');
+                    style.textContent = '*, *::before, *::after { transition: none !important;'
+                            + ' animation: none !important; scroll-behavior: auto !important; }';
+                    (document.head || document.documentElement).appendChild(style);
+                };
+                if (document.documentElement) {
+                    add();
+                } else {
+                    document.addEventListener('DOMContentLoaded', add, { once: true });
+                }
+            })();
+            """;
+
+    private final Browser browser;
+    private final Consumer<BrowserContext> setup;
+    private final boolean reduceMotion;
+    private final int maxSize;
+    private final int maxUses;
+    private final Deque<Lease> idle = new ArrayDeque<>();
+    private int leased;
+
+    /**
+     * Constructor
+     * @param browser Browser creating the contexts
+     * @param setup Configuration applied once to every new context (timeouts, routes, ...)
+     * @param reduceMotion true to create the pooled contexts without transitions and animations
+     */
+    ContextPool(Browser browser, Consumer<BrowserContext> setup, boolean reduceMotion) {
+        this(browser, setup, reduceMotion, Integer.getInteger("pool.size", 4), Integer.getInteger("pool.maxUses", 50));
+    }
+
+    /**
+     * Constructor
+     * @param browser Browser creating the contexts
+     * @param setup Configuration applied once to every new context (timeouts, routes, ...)
+     * @param reduceMotion true to create the pooled contexts without transitions and animations
+     * @param maxSize Maximum number of contexts leased or idle at the same time
+     * @param maxUses Number of leases after which a context is closed instead of reset
+     */
+    ContextPool(Browser browser, Consumer<BrowserContext> setup, boolean reduceMotion, int maxSize, int maxUses) {
+        if (maxSize < 1 || maxUses < 1) {
+            throw new IllegalArgumentException("Pool size and max uses must be positive");
+        }
+        this.browser = browser;
+        this.setup = setup;
+        this.reduceMotion = reduceMotion;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+    }
+
+    /**
+     * Lease a context with one blank page
+     * @return Idle context if one is available, a new one otherwise
+     * @throws IllegalStateException if all contexts of the pool are leased
+     */
+    Lease acquire() {
+        Lease lease = idle.pollFirst();
+        if (lease == null) {
+            if (leased >= maxSize) {
+                throw new IllegalStateException("Context pool exhausted: " + leased + " of " + maxSize + " contexts leased");
+            }
+            lease = create(reduceMotion, true);
+        }
+        leased++;
+        lease.uses++;
+        return lease;
+    }
+
+    /**
+     * Lease a context running the real transitions and animations
+     * Without reduced motion, the pooled contexts already do; otherwise a new context is created
+     * for the lease and closed on release
+     * @return Context with one blank page
+     */
+    Lease acquireWithMotion() {
+        if (!reduceMotion) {
+            return acquire();
+        }
+        Lease lease = create(false, false);
+        lease.uses++;
+        return lease;
+    }
+
+    /**
+     * Give a leased context back to the pool
+     * @param lease Lease returned by {@link #acquire()}
+     */
+    void release(Lease lease) {
+        if (!lease.pooled) {
+            lease.context.close();
+            return;
+        }
+        leased--;
+        if (lease.uses >= maxUses || !reset(lease)) {
+            lease.context.close();
+            return;
+        }
+        idle.addFirst(lease);
+    }
+
+    /**
+     * Close all idle contexts
+     */
+    @Override
+    public void close() {
+        Lease lease;
+        while ((lease = idle.pollFirst()) != null) {
+            lease.context.close();
+        }
+    }
+
+    /**
+     * Create a context of a browser, with or without transitions and animations
+     * @param browser Browser creating the context
+     * @param withoutMotion true to prefer reduced motion and turn off CSS transitions and animations
+     * @return New context, owned by the caller
+     */
+    static BrowserContext newContext(Browser browser, boolean withoutMotion) {
+        BrowserContext context = browser.newContext(new Browser.NewContextOptions()
+                .setReducedMotion(withoutMotion ? ReducedMotion.REDUCE : ReducedMotion.NO_PREFERENCE));
+        if (withoutMotion) {
+            context.addInitScript(DISABLE_MOTION);
+        }
+        return context;
+    }
+
+    private Lease create(boolean withoutMotion, boolean pooled) {
+        BrowserContext context = newContext(browser, withoutMotion);
+        setup.accept(context);
+        return new Lease(context, context.newPage(), ConsoleCapture.attach(context), pooled);
+    }
+
+    /**
+     * Bring a context back to the state of a new one
+     * Storage is cleared for the origin each page is currently on, which covers the single origin of the webapp
+     * @param lease Context to reset
+     * @return true if the context can be reused, false if it has to be closed
+     */
+    private boolean reset(Lease lease) {
+        try {
+            for (Page page : lease.context.pages()) {
+                page.evaluate(CLEAR_STORAGE);
+                if (page != lease.page) {
+                    page.close();
+                }
+            }
+            if (lease.page.isClosed()) {
+                lease.page = lease.context.newPage();
+            }
+            lease.context.clearCookies();
+            lease.context.clearPermissions();
+            lease.page.navigate("about:blank");
+            lease.console.clear();
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Context leased from the pool together with its main page
+     */
+    static final class Lease {
+
+        private final BrowserContext context;
+        private Page page;
+        private final ConsoleCapture console;
+        private final boolean pooled;
+        private int uses;
+        /** true once tracing has been started on this context */
+        boolean tracing;
+
+        private Lease(BrowserContext context, Page page, ConsoleCapture console, boolean pooled) {
+            this.context = context;
+            this.page = page;
+            this.console = console;
+            this.pooled = pooled;
+        }
+
+        BrowserContext context() {
+            return context;
+        }
+
+        Page page() {
+            return page;
+        }
+
+        ConsoleCapture console() {
+            return console;
+        }
+    }
+}
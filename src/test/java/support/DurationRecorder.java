@@ -0,0 +1,66 @@
+package support;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Measures the wall time of every top-level test class and stores it in the {@link TestDurations} file
+ * when a sharded run ends, so that the next {@link ShardPlan} stays balanced.
+ * Registered through META-INF/services, does nothing unless {@link TestDurations#recording()}
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public class DurationRecorder implements TestExecutionListener {
+
+    private final Map<String, Long> startNanos = new ConcurrentHashMap<>();
+    private final Map<String, Long> measured = new ConcurrentHashMap<>();
+
+    @Override
+    public void executionStarted(TestIdentifier identifier) {
+        if (!TestDurations.recording()) {
+            return;
+        }
+        topLevelClass(identifier).ifPresent(name -> startNanos.put(name, System.nanoTime()));
+    }
+
+    @Override
+    public void executionFinished(TestIdentifier identifier, TestExecutionResult result) {
+        topLevelClass(identifier).ifPresent(name -> {
+            Long start = startNanos.remove(name);
+            if (start != null) {
+                measured.put(name, (System.nanoTime() - start) / 1_000_000);
+            }
+        });
+    }
+
+    @Override
+    public void testPlanExecutionFinished(TestPlan testPlan) {
+        if (!TestDurations.recording()) {
+            return;
+        }
+        TestDurations.update(measured);
+        measured.clear();
+    }
+
+    /**
+     * Get the class name of a top-level class container
+     * @param identifier Test or container
+     * @return Class name if the identifier is a class container without parent class
+     */
+    private static Optional<String> topLevelClass(TestIdentifier identifier) {
+        if (identifier.isContainer()
+                && identifier.getSource().orElse(null) instanceof ClassSource source
+                && !source.getClassName().contains("$")) {
+            return Optional.of(source.getClassName());
+        }
+        return Optional.empty();
+    }
+}
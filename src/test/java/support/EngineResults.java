@@ -0,0 +1,59 @@
+package support;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.PrintStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Passed and failed tests per browser engine
+ * Printed at the end of the run when more than one engine was selected with -Dbrowsers
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+final class EngineResults implements ExtensionContext.Store.CloseableResource {
+
+    private final ConcurrentMap<BrowserEngine, AtomicInteger> passed = new ConcurrentHashMap<>();
+    private final ConcurrentMap<BrowserEngine, AtomicInteger> failed = new ConcurrentHashMap<>();
+
+    /**
+     * Record the result of one test
+     * @param engine Engine the test ran on
+     * @param success true if the test passed
+     */
+    void record(BrowserEngine engine, boolean success) {
+        (success ? passed : failed).computeIfAbsent(engine, key -> new AtomicInteger()).incrementAndGet();
+    }
+
+    /**
+     * Print the results per engine
+     * @param out Stream to print to
+     */
+    void printSummary(PrintStream out) {
+        out.println();
+        out.println("Results per browser engine");
+        out.printf("%-10s %7s %7s%n", "engine", "passed", "failed");
+        for (BrowserEngine engine : BrowserEngine.configured()) {
+            out.printf("%-10s %7d %7d%n", engine.id(), count(passed, engine), count(failed, engine));
+        }
+    }
+
+    /**
+     * Print the summary when the run ends
+     */
+    @Override
+    public void close() {
+        if (BrowserEngine.configured().size() > 1) {
+            printSummary(System.out);
+        }
+    }
+
+    private static int count(Map<BrowserEngine, AtomicInteger> counts, BrowserEngine engine) {
+        AtomicInteger count = counts.get(engine);
+        return count == null ? 0 : count.get();
+    }
+}
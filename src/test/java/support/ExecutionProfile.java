@@ -0,0 +1,129 @@
+package support;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.BrowserType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Execution profile of the test run
+ * Selected with -Dprofile=ci|debug|perf (default: ci), single values can be overridden with
+ * -Dheadless, -DslowMo, -Dbrowser.channel, -Dbrowser.args (comma separated), -Dtimeout, -Dtimeout.navigation
+ * and -DreducedMotion
+ *
+ * @param name Name of the profile
+ * @param headless true to run the browser without window
+ * @param slowMo Delay in milliseconds added to every Playwright action
+ * @param channel Browser channel (e.g. "chrome", "msedge"), null for the bundled Chromium
+ * @param args Additional Chromium launch arguments
+ * @param timeout Default timeout of actions in milliseconds
+ * @param navigationTimeout Default timeout of navigations in milliseconds
+ * @param reducedMotion true to run the pages without CSS transitions and animations
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.2
+ */
+public record ExecutionProfile(String name, boolean headless, double slowMo, String channel,
+                               List<String> args, double timeout, double navigationTimeout, boolean reducedMotion) {
+
+    private static final ExecutionProfile CURRENT = fromSystemProperties();
+
+    public ExecutionProfile {
+        args = List.copyOf(args);
+    }
+
+    /**
+     * Get the profile of this run
+     * @return Profile selected by the system properties
+     */
+    public static ExecutionProfile current() {
+        return CURRENT;
+    }
+
+    /**
+     * Get the defaults of a named profile
+     * @param name "ci", "debug" or "perf"
+     * @return Profile with its default values
+     */
+    public static ExecutionProfile named(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            // Full speed on headless build agents, short timeouts to fail fast, no animations to wait for
+            case "ci" -> new ExecutionProfile("ci", true, 0, null,
+                    List.of("--disable-gpu", "--disable-dev-shm-usage"), 5_000, 10_000, true);
+            // Visible window and slowed down actions to follow a test
+            case "debug" -> new ExecutionProfile("debug", false, 50, null,
+                    List.of(), 30_000, 30_000, false);
+            // Headless without background throttling for stable measurements, with the real animations
+            case "perf" -> new ExecutionProfile("perf", true, 0, null,
+                    List.of("--disable-gpu", "--disable-dev-shm-usage", "--disable-extensions",
+                            "--disable-background-timer-throttling", "--disable-renderer-backgrounding",
+                            "--disable-backgrounding-occluded-windows"), 10_000, 10_000, false);
+            default -> throw new IllegalArgumentException("Unknown profile '" + name + "', expected ci, debug or perf");
+        };
+    }
+
+    /**
+     * Build the launch options of the browser
+     * @return Launch options for this profile
+     */
+    public BrowserType.LaunchOptions launchOptions() {
+        return launchOptions(BrowserEngine.CHROMIUM);
+    }
+
+    /**
+     * Build the launch options of the browser of an engine
+     * Channel and arguments are Chromium specific, the other engines only get headless and slowMo
+     * @param engine Browser engine to launch
+     * @return Launch options for this profile
+     */
+    public BrowserType.LaunchOptions launchOptions(BrowserEngine engine) {
+        BrowserType.LaunchOptions options = new BrowserType.LaunchOptions()
+                .setHeadless(headless)
+                .setSlowMo(slowMo);
+        if (engine != BrowserEngine.CHROMIUM) {
+            return options;
+        }
+        options.setArgs(args);
+        if (channel != null) {
+            options.setChannel(channel);
+        }
+        return options;
+    }
+
+    /**
+     * Apply the default timeouts of this profile to a context
+     * @param context Context to configure
+     */
+    public void applyTimeouts(BrowserContext context) {
+        context.setDefaultTimeout(timeout);
+        context.setDefaultNavigationTimeout(navigationTimeout);
+    }
+
+    /**
+     * Read the profile and its overrides from the system properties
+     * @return Profile of this run
+     */
+    private static ExecutionProfile fromSystemProperties() {
+        ExecutionProfile defaults = named(System.getProperty("profile", "ci"));
+
+        List<String> args = new ArrayList<>(defaults.args());
+        String extraArgs = System.getProperty("browser.args");
+        if (extraArgs != null && !extraArgs.isBlank()) {
+            Arrays.stream(extraArgs.split(",")).map(String::trim).filter(arg -> !arg.isEmpty()).forEach(args::add);
+        }
+
+        return new ExecutionProfile(
+                defaults.name(),
+                Boolean.parseBoolean(System.getProperty("headless", String.valueOf(defaults.headless()))),
+                Double.parseDouble(System.getProperty("slowMo", String.valueOf(defaults.slowMo()))),
+                System.getProperty("browser.channel", defaults.channel()),
+                args,
+                Double.parseDouble(System.getProperty("timeout", String.valueOf(defaults.timeout()))),
+                Double.parseDouble(System.getProperty("timeout.navigation", String.valueOf(defaults.navigationTimeout()))),
+                Boolean.parseBoolean(System.getProperty("reducedMotion", String.valueOf(defaults.reducedMotion())))
+        );
+    }
+}
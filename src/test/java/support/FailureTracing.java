@@ -0,0 +1,113 @@
+package support;
+
+import com.microsoft.playwright.Tracing;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Playwright tracing that keeps the trace of failed tests only
+ * Every test records its own trace chunk (screenshots, DOM snapshots and sources) in its pooled context,
+ * the chunk of a passing test is discarded without being written, the chunk of a failing test is saved
+ * to target/traces.
+ * -Dtrace.maxBytes (default: 20 MB) does not limit what is written: Playwright only knows the size of a
+ * chunk once the whole zip is on disk, so a larger trace is written in full and then deleted. What bounds
+ * the disk use of a run is -Dtrace.maxTotalBytes (default: 200 MB), checked before writing: once the kept
+ * traces use it up, the chunks of further failing tests are discarded like those of passing tests.
+ * Saved and dropped traces are published as "trace" report entries of the test.
+ * Enabled with -Dtrace=on-failure
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.2
+ */
+final class FailureTracing {
+
+    private static final boolean ENABLED = System.getProperty("trace", "off").equals("on-failure");
+    private static final long MAX_BYTES = Long.getLong("trace.maxBytes", 20L * 1024 * 1024);
+    private static final long MAX_TOTAL_BYTES = Long.getLong("trace.maxTotalBytes", 200L * 1024 * 1024);
+    private static final AtomicLong SAVED_BYTES = new AtomicLong();
+    private static final Path TRACE_DIR = Paths.get("target", "traces");
+    private static final String REPORT_KEY = "trace";
+
+    private FailureTracing() {
+    }
+
+    /**
+     * Check if failure tracing is enabled in this run
+     * @return true if traces are recorded
+     */
+    static boolean enabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Start recording the trace chunk of a test
+     * @param lease Context leased for the test
+     * @param context Extension context of the test
+     */
+    static void begin(ContextPool.Lease lease, ExtensionContext context) {
+        Tracing tracing = lease.context().tracing();
+        if (!lease.tracing) {
+            // Starting the trace opens its first chunk
+            tracing.start(new Tracing.StartOptions()
+                    .setScreenshots(true)
+                    .setSnapshots(true)
+                    .setSources(true)
+                    .setTitle(context.getDisplayName()));
+            lease.tracing = true;
+        } else {
+            tracing.startChunk(new Tracing.StartChunkOptions().setTitle(context.getDisplayName()));
+        }
+    }
+
+    /**
+     * Stop the trace chunk of a test, saving it only if the test failed and the run-wide budget is not used up
+     * @param lease Context leased for the test
+     * @param context Extension context of the test
+     * @param failed true if the test failed, including failures found by the extension after the test body
+     */
+    static void end(ContextPool.Lease lease, ExtensionContext context, boolean failed) {
+        Tracing tracing = lease.context().tracing();
+        if (!failed) {
+            tracing.stopChunk();
+            return;
+        }
+        if (SAVED_BYTES.get() >= MAX_TOTAL_BYTES) {
+            tracing.stopChunk();
+            context.publishReportEntry(REPORT_KEY,
+                    "Dropped, saved traces reached trace.maxTotalBytes=" + MAX_TOTAL_BYTES);
+            return;
+        }
+
+        Path trace = TRACE_DIR.resolve(fileName(context));
+        tracing.stopChunk(new Tracing.StopChunkOptions().setPath(trace));
+        try {
+            long size = Files.size(trace);
+            if (size > MAX_BYTES) {
+                Files.delete(trace);
+                context.publishReportEntry(REPORT_KEY,
+                        "Dropped after writing, " + size + " bytes exceed trace.maxBytes=" + MAX_BYTES);
+            } else {
+                SAVED_BYTES.addAndGet(size);
+                context.publishReportEntry(REPORT_KEY, trace.toAbsolutePath().toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot check trace " + trace, e);
+        }
+    }
+
+    /**
+     * Build a file name unique per test invocation
+     * @param context Extension context of the test
+     * @return File name of the trace zip
+     */
+    private static String fileName(ExtensionContext context) {
+        String name = context.getRequiredTestClass().getSimpleName() + "." + context.getRequiredTestMethod().getName();
+        return name + "-" + Integer.toHexString(context.getUniqueId().hashCode()) + ".zip";
+    }
+}
@@ -0,0 +1,55 @@
+package support;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Skips the tests that are not affected by the changes since their last successful run
+ * Active with -Dimpact=true; a test runs unless the {@link TestImpact} index holds an unaffected record for
+ * every engine it runs on (all engines of the run for a {@link BrowserTest}, the primary one otherwise)
+ * in the serve mode of the run.
+ * Registered through META-INF/services
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public class ImpactFilter implements PostDiscoveryFilter {
+
+    private static final boolean ENABLED = Boolean.getBoolean("impact");
+
+    private Map<String, Set<String>> index;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (!ENABLED || !(descriptor.getSource().orElse(null) instanceof MethodSource source)) {
+            return FilterResult.included("Impact selection disabled or not a test method");
+        }
+        List<BrowserEngine> engines = source.getJavaMethod().isAnnotationPresent(BrowserTest.class)
+                ? BrowserEngine.configured()
+                : List.of(BrowserEngine.primary());
+        for (BrowserEngine engine : engines) {
+            String key = TestImpact.key(source.getClassName(), source.getMethodName(), engine, ServeMode.current());
+            Set<String> artifacts = index().get(key);
+            if (artifacts == null) {
+                return FilterResult.included("No impact record for " + key);
+            }
+            if (TestImpact.isAffected(artifacts)) {
+                return FilterResult.included("Touched files or classes changed for " + key);
+            }
+        }
+        return FilterResult.excluded("Not affected by changes since the last successful run");
+    }
+
+    private synchronized Map<String, Set<String>> index() {
+        if (index == null) {
+            index = TestImpact.load();
+        }
+        return index;
+    }
+}
@@ -0,0 +1,111 @@
+package support;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free, allocation-free latency histogram
+ * Values are counted in log-linear buckets (8 sub-buckets per power of two, at most 12.5 % relative error),
+ * so recording is one array increment and percentiles are read from the bucket bounds
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Record one value
+     * @param nanos Latency in nanoseconds, negative values are counted as 0
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts.incrementAndGet(bucket(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Get the number of recorded values
+     * @return Count
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Get the sum of all recorded values
+     * @return Total in nanoseconds
+     */
+    public long total() {
+        return sum.sum();
+    }
+
+    /**
+     * Get the largest recorded value
+     * @return Maximum in nanoseconds
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Get a percentile of the recorded values
+     * @param percentile Percentile between 0 and 100 (e.g. 99)
+     * @return Upper bound of the bucket holding the percentile, in nanoseconds, 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long total = count();
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Get the bucket of a value
+     * @param value Non-negative value
+     * @return Index of the bucket
+     */
+    static int bucket(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(value);
+        int shift = magnitude - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Get the largest value falling into a bucket
+     * @param bucket Index of the bucket
+     * @return Inclusive upper bound
+     */
+    static long upperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lower + (1L << shift) - 1;
+    }
+}
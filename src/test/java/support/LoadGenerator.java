@@ -0,0 +1,133 @@
+package support;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Playwright;
+import pages.FormInput;
+import pages.Page2;
+import pages.ValidationOracle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Local load generator driving the form page with the page objects
+ * Every virtual user is a scenario of a ScenarioExecutor, on its own virtual thread with its own
+ * Playwright driver and BrowserContext, all connected over CDP to one shared Chromium. The contexts are created
+ * like the pooled test contexts, without animations when the profile reduces motion. A user repeatedly loads page2.html, fills the form and
+ * submits it, cycling through valid and invalid inputs so that both paths of the validation handler run;
+ * every result is checked against the ValidationOracle
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.3
+ */
+public final class LoadGenerator {
+
+    /** Inputs cycled through by every user: success, missing consent, acronym mismatch, EU mismatch */
+    private static final List<FormInput> INPUTS = List.of(
+            new FormInput("DE", "DE", "yes", true),
+            new FormInput("FR", "FR", "yes", false),
+            new FormInput("BE", "DK", "yes", true),
+            new FormInput("US", "US", "yes", true));
+
+    private final LoadProfile profile;
+    private final String endpoint;
+    private final String baseUrl;
+
+    /**
+     * Constructor
+     * @param profile Shape of the run
+     * @param endpoint CDP endpoint of the shared browser
+     * @param baseUrl Base URL of the web application
+     */
+    public LoadGenerator(LoadProfile profile, String endpoint, String baseUrl) {
+        this.profile = profile;
+        this.endpoint = endpoint;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Run the load and wait for all users to finish
+     * @return Report of the run
+     * @throws InterruptedException if interrupted while waiting for the users
+     */
+    public LoadReport run() throws InterruptedException {
+        LoadReport report = new LoadReport(profile);
+        long start = System.nanoTime();
+        long end = start + profile.total().toNanos();
+        // One browser slot per user, so that no user waits for another one to finish
+        try (ScenarioExecutor executor = new ScenarioExecutor(profile.users())) {
+            List<Future<Void>> users = new ArrayList<>();
+            for (int user = 0; user < profile.users(); user++) {
+                int index = user;
+                users.add(executor.submit(playwright -> {
+                    runUser(playwright, index, end, report);
+                    return null;
+                }, profile.startOffset(user)));
+            }
+            ScenarioExecutor.await(users);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Virtual user failed", e.getCause());
+        }
+        report.finish(System.nanoTime() - start);
+        return report;
+    }
+
+    /**
+     * Iterate as one virtual user until the end of the run
+     * @param playwright Driver of the user
+     * @param user Index of the user, used to spread the inputs
+     * @param end End of the run, in System.nanoTime() time
+     * @param report Report to write to
+     */
+    private void runUser(Playwright playwright, int user, long end, LoadReport report) {
+        long pacing = profile.pacing().toNanos();
+        Browser browser = playwright.chromium().connectOverCDP(endpoint);
+        ExecutionProfile executionProfile = ExecutionProfile.current();
+        BrowserContext context = ContextPool.newContext(browser, executionProfile.reducedMotion());
+        try {
+            executionProfile.applyTimeouts(context);
+            Page2 page2 = new Page2(context.newPage());
+
+            long next = System.nanoTime();
+            for (int iteration = user; System.nanoTime() < end; iteration++) {
+                FormInput input = INPUTS.get(iteration % INPUTS.size());
+                long iterationStart = System.nanoTime();
+                String[] resultClass = new String[1];
+                boolean completed = report.step("nav", () -> page2.nav(baseUrl))
+                        && report.step("fill", () -> page2.fillCompleteForm(input.acronym(), input.country(),
+                                input.euResident().equals("yes"), input.dataConsent()))
+                        // Click, wait for the validation handler and read its result
+                        && report.step("submit", () -> {
+                            page2.clickSubmit();
+                            page2.waitForResult();
+                            resultClass[0] = page2.snapshot().resultClass();
+                        });
+                if (completed) {
+                    report.iteration(System.nanoTime() - iterationStart,
+                            resultClass[0].equals(ValidationOracle.validate(input).resultClass()));
+                }
+                // A late iteration delays the next ones instead of being caught up in a burst
+                next = Math.max(next + pacing, System.nanoTime());
+                sleepUntil(next);
+            }
+        } finally {
+            // A failed user must not keep its context open for the rest of the run
+            context.close();
+        }
+    }
+
+    /**
+     * Park the calling thread until a point in time
+     * @param deadline Point in System.nanoTime() time
+     */
+    private static void sleepUntil(long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package support;
+
+import java.time.Duration;
+
+/**
+ * Shape of a load run
+ * Read from -Dload.users, -Dload.rampUp and -Dload.duration (seconds, defaults: 10 and 30)
+ * and -Dload.rate (iterations per second of all users together, default: 0 = as fast as possible)
+ *
+ * @param users Number of virtual users
+ * @param rampUp Time over which the users are started, evenly spaced
+ * @param duration Time all users keep running once the last one has started
+ * @param rate Target iterations per second of all users together, 0 for no pacing
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public record LoadProfile(int users, Duration rampUp, Duration duration, double rate) {
+
+    public LoadProfile {
+        if (users < 1) {
+            throw new IllegalArgumentException("At least one virtual user is needed");
+        }
+        if (rampUp.isNegative() || duration.isNegative() || rate < 0) {
+            throw new IllegalArgumentException("Ramp-up, duration and rate must not be negative");
+        }
+    }
+
+    /**
+     * Read the profile from the system properties
+     * @return Profile of this run
+     */
+    public static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Integer.getInteger("load.users", 1),
+                Duration.ofSeconds(Long.getLong("load.rampUp", 10)),
+                Duration.ofSeconds(Long.getLong("load.duration", 30)),
+                Double.parseDouble(System.getProperty("load.rate", "0")));
+    }
+
+    /**
+     * Get the delay after which a user starts
+     * @param user Index of the user, from 0
+     * @return Offset from the start of the run
+     */
+    public Duration startOffset(int user) {
+        return rampUp.multipliedBy(user).dividedBy(users);
+    }
+
+    /**
+     * Get the time between two iteration starts of one user
+     * @return Pacing interval, zero without target rate
+     */
+    public Duration pacing() {
+        return rate == 0 ? Duration.ZERO : Duration.ofNanos((long) (users * 1e9 / rate));
+    }
+
+    /**
+     * Get the total length of the run
+     * @return Ramp-up plus duration
+     */
+    public Duration total() {
+        return rampUp.plus(duration);
+    }
+}
@@ -0,0 +1,125 @@
+package support;
+
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies per step, iterations and failures of a load run
+ * Written concurrently by all virtual users
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class LoadReport {
+
+    private final LoadProfile profile;
+    private final Map<String, LatencyHistogram> steps = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> failures = new ConcurrentHashMap<>();
+    private final LongAdder iterations = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private volatile long elapsedNanos;
+
+    LoadReport(LoadProfile profile) {
+        this.profile = profile;
+    }
+
+    /**
+     * Run one step of an iteration and record its latency, or its failure
+     * @param step Name of the step (e.g. "submit")
+     * @param call Step to run
+     * @return true if the step completed
+     */
+    boolean step(String step, Runnable call) {
+        long start = System.nanoTime();
+        try {
+            call.run();
+            steps.computeIfAbsent(step, key -> new LatencyHistogram()).record(System.nanoTime() - start);
+            return true;
+        } catch (RuntimeException e) {
+            failures.computeIfAbsent(step, key -> new LongAdder()).increment();
+            return false;
+        }
+    }
+
+    void iteration(long nanos, boolean expectedResult) {
+        steps.computeIfAbsent("iteration", key -> new LatencyHistogram()).record(nanos);
+        iterations.increment();
+        if (!expectedResult) {
+            mismatches.increment();
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Get the number of completed iterations
+     * @return Iterations of all users
+     */
+    public long iterations() {
+        return iterations.sum();
+    }
+
+    /**
+     * Get the number of failed steps
+     * @return Steps which threw, of all users
+     */
+    public long failures() {
+        return failures.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Get the number of iterations whose validation result differed from the oracle
+     * @return Mismatching iterations of all users
+     */
+    public long mismatches() {
+        return mismatches.sum();
+    }
+
+    /**
+     * Get the throughput of the run
+     * @return Completed iterations per second
+     */
+    public double throughput() {
+        return elapsedNanos == 0 ? 0 : iterations() / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * Get the latencies of one step
+     * @param step Name of the step
+     * @return Histogram of the step, empty if it never completed
+     */
+    public LatencyHistogram latencies(String step) {
+        return steps.getOrDefault(step, new LatencyHistogram());
+    }
+
+    /**
+     * Print the summary of the run
+     * @param out Stream to print to
+     */
+    public void print(PrintStream out) {
+        out.println();
+        out.printf("Load run: %d users, ramp-up %d s, duration %d s, target %s%n", profile.users(),
+                profile.rampUp().toSeconds(), profile.duration().toSeconds(),
+                profile.rate() == 0 ? "unpaced" : profile.rate() + " it/s");
+        out.printf("%d iterations in %.1f s: %.2f it/s, %d failed steps, %d unexpected results%n",
+                iterations(), elapsedNanos / 1e9, throughput(), failures(), mismatches());
+        out.printf("%-10s %7s %7s %8s %8s %8s %8s%n", "step", "count", "failed", "p50", "p95", "p99", "max");
+        Map<String, LatencyHistogram> ordered = new LinkedHashMap<>();
+        for (String step : new String[]{"nav", "fill", "submit", "iteration"}) {
+            ordered.put(step, latencies(step));
+        }
+        ordered.forEach((step, histogram) -> out.printf("%-10s %7d %7d %8.2f %8.2f %8.2f %8.2f%n",
+                step, histogram.count(), failures.getOrDefault(step, new LongAdder()).sum(),
+                millis(histogram.percentile(50)), millis(histogram.percentile(95)),
+                millis(histogram.percentile(99)), millis(histogram.max())));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
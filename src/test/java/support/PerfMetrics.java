@@ -0,0 +1,239 @@
+package support;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.CDPSession;
+import com.microsoft.playwright.Page;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Load and response metrics of the pages, checked against budgets
+ * Collected around the navigations and submits of the page objects: Navigation and Paint Timing of the page,
+ * plus JS heap, layout count and script duration from the Chromium DevTools protocol on Chromium. Each page
+ * keeps one DevTools session with the Performance domain enabled, the renderer counters are read before and
+ * after every step and the step is charged with their increase.
+ * Budgets are read from perf-budgets.properties on the test classpath (page.step.metric = maximum), a test
+ * exceeding one fails. The values of the run are summarized in target/perf-metrics.json.
+ * Enabled with -Dperf.metrics=true or by the perf profile
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public final class PerfMetrics implements ExtensionContext.Store.CloseableResource {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(
+            System.getProperty("perf.metrics", String.valueOf(ExecutionProfile.current().name().equals("perf"))));
+
+    private static final Path REPORT = Paths.get("target", "perf-metrics.json");
+
+    private static final String TIMING_SCRIPT = """
+            () => {
+                const navigation = performance.getEntriesByType('navigation')[0];
+                const paint = name => {
+                    const entry = performance.getEntriesByName(name, 'paint')[0];
+                    return entry ? entry.startTime : -1;
+                };
+                return navigation ? {
+                    ttfb: navigation.responseStart,
+                    domContentLoaded: navigation.domContentLoadedEventEnd || -1,
+                    load: navigation.loadEventEnd || -1,
+                    firstPaint: paint('first-paint'),
+                    firstContentfulPaint: paint('first-contentful-paint')
+                } : {};
+            }
+            """;
+
+    private static final Map<String, Double> BUDGETS = loadBudgets();
+    private static final Map<String, Queue<Double>> VALUES = new ConcurrentHashMap<>();
+    private static final Queue<String> EXCEEDED = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<List<String>> CURRENT = new ThreadLocal<>();
+    private static final Map<Page, CDPSession> SESSIONS = new ConcurrentHashMap<>();
+
+    /**
+     * Check if the metrics are collected in this run
+     * @return true if metrics are collected
+     */
+    public static boolean enabled() {
+        return ENABLED;
+    }
+
+    /**
+     * Read the renderer counters of a page before a step
+     * @param page Page the step will run on
+     * @return JS heap in bytes, layout count and script duration in milliseconds, empty outside Chromium
+     */
+    public static Map<String, Double> counters(Page page) {
+        return isChromium(page) ? devToolsMetrics(page) : Map.of();
+    }
+
+    /**
+     * Collect the metrics of a page after one of its steps and check them against the budgets
+     * @param page Page the step ran on
+     * @param pageName Name of the page in the budgets (e.g. "page1")
+     * @param step Step that just finished (e.g. "nav", "submit")
+     * @param before Counters read with {@link #counters(Page)} before the step
+     */
+    public static void collect(Page page, String pageName, String step, Map<String, Double> before) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        if (step.equals("nav")) {
+            // Only a navigation produces new timing entries, a submit stays on the same document
+            ((Map<?, ?>) page.evaluate(TIMING_SCRIPT)).forEach((name, value) -> {
+                if (value instanceof Number number && number.doubleValue() >= 0) {
+                    metrics.put((String) name, number.doubleValue());
+                }
+            });
+        }
+        counters(page).forEach((metric, value) -> {
+            Double start = before.get(metric);
+            // The heap is a level, the other counters grow; a counter below its start was reset by a new renderer
+            boolean increase = !metric.equals("jsHeapUsedBytes") && start != null && start <= value;
+            metrics.put(metric, increase ? value - start : value);
+        });
+
+        List<String> current = CURRENT.get();
+        metrics.forEach((metric, value) -> {
+            String key = pageName + "." + step + "." + metric;
+            VALUES.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(value);
+            Double budget = BUDGETS.get(key);
+            if (budget != null && value > budget) {
+                String violation = String.format(Locale.ROOT, "%s = %.1f exceeds budget %.1f", key, value, budget);
+                EXCEEDED.add(violation);
+                if (current != null) {
+                    current.add(violation);
+                }
+            }
+        });
+    }
+
+    /**
+     * Start collecting the budget violations of the test running on the calling thread
+     */
+    static void begin() {
+        CURRENT.set(new ArrayList<>());
+    }
+
+    /**
+     * Stop collecting for the test running on the calling thread
+     * @return Budgets exceeded by the test
+     */
+    static List<String> end() {
+        List<String> violations = CURRENT.get();
+        CURRENT.remove();
+        return violations == null ? List.of() : violations;
+    }
+
+    /**
+     * Write the summary of the run when it ends
+     */
+    @Override
+    public void close() throws IOException {
+        if (VALUES.isEmpty()) {
+            return;
+        }
+        JsonObject metrics = new JsonObject();
+        new TreeMap<>(VALUES).forEach((key, values) -> {
+            double[] sorted = values.stream().mapToDouble(Double::doubleValue).sorted().toArray();
+            JsonObject summary = new JsonObject();
+            summary.addProperty("n", sorted.length);
+            summary.addProperty("p50", round(sorted[(sorted.length - 1) / 2]));
+            summary.addProperty("p95", round(sorted[(int) Math.ceil(sorted.length * 0.95) - 1]));
+            summary.addProperty("max", round(sorted[sorted.length - 1]));
+            Double budget = BUDGETS.get(key);
+            if (budget != null) {
+                summary.addProperty("budget", budget);
+            }
+            metrics.add(key, summary);
+        });
+        JsonArray exceeded = new JsonArray();
+        EXCEEDED.forEach(exceeded::add);
+
+        JsonObject report = new JsonObject();
+        report.addProperty("run", Instant.now().toString());
+        report.addProperty("profile", ExecutionProfile.current().name());
+        report.add("metrics", metrics);
+        report.add("exceeded", exceeded);
+        Files.createDirectories(REPORT.getParent());
+        Files.writeString(REPORT, report.toString(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Read the counters of the renderer through the DevTools protocol
+     * @param page Page on a Chromium browser
+     * @return JS heap in bytes, layout count and script duration in milliseconds
+     */
+    private static Map<String, Double> devToolsMetrics(Page page) {
+        Map<String, Double> metrics = new LinkedHashMap<>();
+        for (JsonElement element : session(page).send("Performance.getMetrics").getAsJsonArray("metrics")) {
+            JsonObject metric = element.getAsJsonObject();
+            double value = metric.get("value").getAsDouble();
+            switch (metric.get("name").getAsString()) {
+                case "JSHeapUsedSize" -> metrics.put("jsHeapUsedBytes", value);
+                case "LayoutCount" -> metrics.put("layoutCount", value);
+                case "ScriptDuration" -> metrics.put("scriptDurationMs", value * 1000);
+                default -> {
+                }
+            }
+        }
+        return metrics;
+    }
+
+    /**
+     * Get the DevTools session of a page, opening it on first use
+     * The renderer only counts layouts and script time while the Performance domain is enabled,
+     * so the session stays open, with the domain enabled, until the page is closed
+     * @param page Page on a Chromium browser
+     * @return Session with the Performance domain enabled
+     */
+    private static CDPSession session(Page page) {
+        return SESSIONS.computeIfAbsent(page, key -> {
+            CDPSession session = page.context().newCDPSession(page);
+            session.send("Performance.enable");
+            page.onClose(SESSIONS::remove);
+            return session;
+        });
+    }
+
+    private static boolean isChromium(Page page) {
+        Browser browser = page.context().browser();
+        return browser != null && browser.browserType().name().equals("chromium");
+    }
+
+    private static Map<String, Double> loadBudgets() {
+        Properties properties = new Properties();
+        try (InputStream in = PerfMetrics.class.getResourceAsStream("/perf-budgets.properties")) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read perf-budgets.properties", e);
+        }
+        Map<String, Double> budgets = new ConcurrentHashMap<>();
+        properties.forEach((key, value) -> budgets.put((String) key, Double.parseDouble(((String) value).trim())));
+        return budgets;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -0,0 +1,241 @@
+package support;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JUnit 5 extension sharing one Playwright runtime across the whole test run
+ * The browser is launched once for the run, every test gets a clean BrowserContext and Page from the pool
+ * which can be injected as parameters of test or lifecycle methods, together with its {@link ConsoleCapture}
+ * and the base URL of the web application (String parameter annotated with {@link BaseUrl}).
+ * Registered on a test class, it runs on the primary engine of -Dbrowsers; {@link BrowserTest} methods
+ * get one engine-bound instance per engine instead
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.6
+ */
+public class PlaywrightExtension implements BeforeEachCallback, AfterEachCallback, ParameterResolver {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(PlaywrightExtension.class);
+
+    private final BrowserEngine engine;
+
+    /**
+     * Constructor of the class-level extension, running on the primary engine
+     */
+    public PlaywrightExtension() {
+        this(null);
+    }
+
+    /**
+     * Constructor of the extension of one {@link BrowserTest} invocation
+     * @param engine Engine of the invocation, null for the class-level extension
+     */
+    PlaywrightExtension(BrowserEngine engine) {
+        this.engine = engine;
+    }
+
+    /**
+     * Lease a clean context and page for the upcoming test
+     * @param context Extension context of the test
+     */
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        if (!appliesTo(context)) {
+            return;
+        }
+        if (ActionTimings.enabled()) {
+            // Registered in the root context so that the summary is printed once, when the run ends
+            context.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(ActionTimings.class, key -> new ActionTimings(), ActionTimings.class);
+        }
+        if (PerfMetrics.enabled()) {
+            context.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(PerfMetrics.class, key -> new PerfMetrics(), PerfMetrics.class);
+            PerfMetrics.begin();
+        }
+        impact(context).begin(context);
+        ContextPool contexts = runtime(context).contexts(engine());
+        ContextPool.Lease lease = needsMotion(context) ? contexts.acquireWithMotion() : contexts.acquire();
+
+        ExtensionContext.Store store = context.getStore(NAMESPACE);
+        store.put(ContextPool.Lease.class, lease);
+        store.put(BrowserContext.class, lease.context());
+        store.put(Page.class, lease.page());
+        store.put(ConsoleCapture.class, lease.console());
+
+        if (FailureTracing.enabled()) {
+            FailureTracing.begin(lease, context);
+        }
+    }
+
+    /**
+     * Give the context of the finished test back to the pool
+     * @param context Extension context of the test
+     */
+    @Override
+    public void afterEach(ExtensionContext context) {
+        if (!appliesTo(context)) {
+            return;
+        }
+        ContextPool.Lease lease = context.getStore(NAMESPACE).remove(ContextPool.Lease.class, ContextPool.Lease.class);
+        // Decided before anything records the outcome, and read before the release clears the capture
+        List<String> failures = new ArrayList<>();
+        List<String> exceededBudgets = PerfMetrics.end();
+        if (!exceededBudgets.isEmpty()) {
+            failures.add("Performance budgets exceeded: " + exceededBudgets);
+        }
+        if (lease != null && ConsoleCapture.failOnError()) {
+            List<ConsoleCapture.Message> pageErrors = lease.console().pageErrors();
+            if (!pageErrors.isEmpty()) {
+                failures.add("Uncaught page errors: " + pageErrors.stream().map(ConsoleCapture.Message::text).toList());
+            }
+        }
+        boolean failed = context.getExecutionException().isPresent() || !failures.isEmpty();
+
+        impact(context).end(context, engine(), failed);
+        results(context).record(engine(), !failed);
+        if (lease != null) {
+            try {
+                if (FailureTracing.enabled()) {
+                    FailureTracing.end(lease, context, failed);
+                }
+            } finally {
+                runtime(context).contexts(engine()).release(lease);
+            }
+        }
+        if (!failures.isEmpty()) {
+            throw new AssertionError(String.join("; ", failures));
+        }
+    }
+
+    @Override
+    public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        if (!appliesTo(extensionContext)) {
+            return false;
+        }
+        Class<?> type = parameterContext.getParameter().getType();
+        if (parameterContext.isAnnotated(BaseUrl.class)) {
+            return type == String.class;
+        }
+        return type == Page.class || type == BrowserContext.class || type == ConsoleCapture.class;
+    }
+
+    @Override
+    public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+        if (parameterContext.isAnnotated(BaseUrl.class)) {
+            return baseUrl(extensionContext);
+        }
+        Class<?> type = parameterContext.getParameter().getType();
+        return extensionContext.getStore(NAMESPACE).get(type, type);
+    }
+
+    /**
+     * Check if this instance serves a test
+     * The class-level instance leaves {@link BrowserTest} methods to their engine-bound instances
+     * @param context Extension context of the test
+     * @return true if this instance provides the page of the test
+     */
+    private boolean appliesTo(ExtensionContext context) {
+        return engine != null || context.getTestMethod().map(method -> !method.isAnnotationPresent(BrowserTest.class)).orElse(true);
+    }
+
+    /**
+     * Check if a test opted out of reduced motion
+     * @param context Extension context of the test
+     * @return true if the test method or class is annotated with {@link RealMotion}
+     */
+    private static boolean needsMotion(ExtensionContext context) {
+        return context.getTestMethod().map(method -> method.isAnnotationPresent(RealMotion.class)).orElse(false)
+                || context.getTestClass().map(testClass -> testClass.isAnnotationPresent(RealMotion.class)).orElse(false);
+    }
+
+    /**
+     * Get the engine this instance runs on
+     * @return Engine of the invocation, or the primary engine of the run
+     */
+    private BrowserEngine engine() {
+        return engine != null ? engine : BrowserEngine.primary();
+    }
+
+    /**
+     * Get the base URL of the web application for the serve mode of the run
+     * @param context Any extension context of the run
+     * @return Directory path for file:// navigation, URL of the suite-wide server or the routed virtual origin
+     */
+    private static String baseUrl(ExtensionContext context) {
+        return switch (ServeMode.current()) {
+            case FILE -> WebAppAssets.WEBAPP_DIR.toString();
+            case HTTP -> context.getRoot().getStore(NAMESPACE)
+                    .getOrComputeIfAbsent(WebAppServer.class, key -> new WebAppServer(assets(context)), WebAppServer.class)
+                    .baseUrl();
+            case ROUTE -> WebAppRoutes.BASE_URL;
+        };
+    }
+
+    /**
+     * Get the runtime of the run, starting it on first use
+     * @param context Any extension context of the run
+     * @return Runtime stored in the root context, closed when the run ends
+     */
+    static BrowserRuntime runtime(ExtensionContext context) {
+        ExtensionContext root = context.getRoot();
+        return root.getStore(NAMESPACE).getOrComputeIfAbsent(BrowserRuntime.class,
+                key -> new BrowserRuntime(ExecutionProfile.current(), browserContext -> setup(browserContext, root)),
+                BrowserRuntime.class);
+    }
+
+    /**
+     * Configure a new context of the pool
+     * @param browserContext New context
+     * @param root Root extension context of the run
+     */
+    private static void setup(BrowserContext browserContext, ExtensionContext root) {
+        ExecutionProfile.current().applyTimeouts(browserContext);
+        browserContext.onRequest(request -> TestImpact.touchUrl(request.url()));
+        if (ServeMode.current() == ServeMode.ROUTE) {
+            WebAppRoutes.install(browserContext, assets(root));
+        }
+    }
+
+    /**
+     * Get the test-impact recorder of the run
+     * @param context Any extension context of the run
+     * @return Recorder stored in the root context, writing the index when the run ends
+     */
+    private static TestImpact impact(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(TestImpact.class, key -> new TestImpact(), TestImpact.class);
+    }
+
+    /**
+     * Get the results per engine of the run
+     * @param context Any extension context of the run
+     * @return Results stored in the root context, printed when the run ends
+     */
+    private static EngineResults results(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE)
+                .getOrComputeIfAbsent(EngineResults.class, key -> new EngineResults(), EngineResults.class);
+    }
+
+    /**
+     * Get the in-memory web application of the run, loading it on first use
+     * @param context Any extension context of the run
+     * @return Assets stored in the root context, watched for changes with -Dwebapp.watch=true
+     */
+    private static WebAppAssets assets(ExtensionContext context) {
+        return context.getRoot().getStore(NAMESPACE).getOrComputeIfAbsent(WebAppAssets.class, key -> {
+            WebAppAssets assets = WebAppAssets.load(WebAppAssets.WEBAPP_DIR);
+            return WebAppAssets.WATCH ? assets.watch() : assets;
+        }, WebAppAssets.class);
+    }
+}
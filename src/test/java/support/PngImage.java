@@ -0,0 +1,251 @@
+package support;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Image as a primitive array of ARGB pixels, read from and written to PNG
+ * Decodes the non-interlaced 8-bit PNGs written by browsers (gray, gray + alpha, RGB, RGBA)
+ * and encodes RGBA, with nothing but Inflater and Deflater
+ *
+ * @param width Width in pixels
+ * @param height Height in pixels
+ * @param pixels ARGB pixels, row by row
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public record PngImage(int width, int height, int[] pixels) {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    public PngImage {
+        if (width < 1 || height < 1 || pixels.length != width * height) {
+            throw new IllegalArgumentException("Expected " + width + "x" + height + " pixels, got " + pixels.length);
+        }
+    }
+
+    /**
+     * Get one pixel
+     * @param x Column
+     * @param y Row
+     * @return ARGB value
+     */
+    public int pixel(int x, int y) {
+        return pixels[y * width + x];
+    }
+
+    /**
+     * Decode a PNG file
+     * @param png Content of the file
+     * @return Decoded image
+     * @throws IllegalArgumentException if the content is not a PNG this decoder supports
+     */
+    public static PngImage decode(byte[] png) {
+        ByteBuffer in = ByteBuffer.wrap(png);
+        for (byte expected : SIGNATURE) {
+            if (!in.hasRemaining() || in.get() != expected) {
+                throw new IllegalArgumentException("Not a PNG file");
+            }
+        }
+        int width = 0;
+        int height = 0;
+        int channels = 0;
+        ByteArrayOutputStream data = new ByteArrayOutputStream(png.length);
+        while (in.remaining() >= 12) {
+            int length = in.getInt();
+            String type = new String(png, in.position(), 4, StandardCharsets.US_ASCII);
+            int start = in.position() + 4;
+            switch (type) {
+                case "IHDR" -> {
+                    ByteBuffer header = ByteBuffer.wrap(png, start, length);
+                    width = header.getInt();
+                    height = header.getInt();
+                    int bitDepth = header.get();
+                    int colorType = header.get();
+                    header.get(); // compression, always deflate
+                    header.get(); // filter method, always adaptive
+                    int interlace = header.get();
+                    channels = switch (colorType) {
+                        case 0 -> 1;
+                        case 2 -> 3;
+                        case 4 -> 2;
+                        case 6 -> 4;
+                        default -> 0;
+                    };
+                    if (bitDepth != 8 || channels == 0 || interlace != 0) {
+                        throw new IllegalArgumentException("Unsupported PNG: bit depth " + bitDepth
+                                + ", color type " + colorType + ", interlace " + interlace);
+                    }
+                }
+                case "IDAT" -> data.write(png, start, length);
+                default -> {
+                    // Ancillary chunks carry nothing needed for the pixels
+                }
+            }
+            if (type.equals("IEND")) {
+                break;
+            }
+            in.position(start + length + 4);
+        }
+        if (channels == 0) {
+            throw new IllegalArgumentException("PNG without header");
+        }
+        return new PngImage(width, height, toPixels(inflate(data.toByteArray(), height * (1 + width * channels)),
+                width, height, channels));
+    }
+
+    /**
+     * Encode this image as RGBA PNG
+     * @return Content of the file
+     */
+    public byte[] encode() {
+        int stride = width * 4;
+        byte[] raw = new byte[height * (1 + stride)];
+        int position = 0;
+        for (int y = 0; y < height; y++) {
+            // Sub filter: flat screenshot areas become runs of zeros
+            raw[position++] = 1;
+            int previous = 0;
+            for (int x = 0; x < width; x++) {
+                int argb = pixels[y * width + x];
+                raw[position++] = (byte) ((argb >>> 16) - (previous >>> 16));
+                raw[position++] = (byte) ((argb >>> 8) - (previous >>> 8));
+                raw[position++] = (byte) (argb - previous);
+                raw[position++] = (byte) ((argb >>> 24) - (previous >>> 24));
+                previous = argb;
+            }
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+        out.writeBytes(SIGNATURE);
+        writeChunk(out, "IHDR", ByteBuffer.allocate(13).putInt(width).putInt(height)
+                .put((byte) 8).put((byte) 6).put((byte) 0).put((byte) 0).put((byte) 0).array());
+        writeChunk(out, "IDAT", deflate(raw));
+        writeChunk(out, "IEND", new byte[0]);
+        return out.toByteArray();
+    }
+
+    /**
+     * Reverse the row filters and convert the samples to ARGB
+     * @param raw Inflated rows, each starting with its filter type
+     * @param width Width in pixels
+     * @param height Height in pixels
+     * @param channels Samples per pixel
+     * @return ARGB pixels
+     */
+    private static int[] toPixels(byte[] raw, int width, int height, int channels) {
+        int stride = width * channels;
+        byte[] previous = new byte[stride];
+        byte[] current = new byte[stride];
+        int[] pixels = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            int rowStart = y * (stride + 1);
+            int filter = raw[rowStart];
+            for (int i = 0; i < stride; i++) {
+                int value = raw[rowStart + 1 + i] & 0xff;
+                int left = i >= channels ? current[i - channels] & 0xff : 0;
+                int up = previous[i] & 0xff;
+                int upLeft = i >= channels ? previous[i - channels] & 0xff : 0;
+                current[i] = (byte) switch (filter) {
+                    case 0 -> value;
+                    case 1 -> value + left;
+                    case 2 -> value + up;
+                    case 3 -> value + ((left + up) >>> 1);
+                    case 4 -> value + paeth(left, up, upLeft);
+                    default -> throw new IllegalArgumentException("Unknown PNG filter " + filter);
+                };
+            }
+            for (int x = 0, i = 0; x < width; x++, i += channels) {
+                pixels[y * width + x] = switch (channels) {
+                    case 1 -> gray(current[i] & 0xff, 0xff);
+                    case 2 -> gray(current[i] & 0xff, current[i + 1] & 0xff);
+                    case 3 -> 0xff000000 | (current[i] & 0xff) << 16 | (current[i + 1] & 0xff) << 8 | current[i + 2] & 0xff;
+                    default -> (current[i + 3] & 0xff) << 24 | (current[i] & 0xff) << 16
+                            | (current[i + 1] & 0xff) << 8 | current[i + 2] & 0xff;
+                };
+            }
+            byte[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return pixels;
+    }
+
+    private static int gray(int value, int alpha) {
+        return alpha << 24 | value << 16 | value << 8 | value;
+    }
+
+    private static int paeth(int left, int up, int upLeft) {
+        int estimate = left + up - upLeft;
+        int toLeft = Math.abs(estimate - left);
+        int toUp = Math.abs(estimate - up);
+        int toUpLeft = Math.abs(estimate - upLeft);
+        if (toLeft <= toUp && toLeft <= toUpLeft) {
+            return left;
+        }
+        return toUp <= toUpLeft ? up : upLeft;
+    }
+
+    private static byte[] inflate(byte[] data, int size) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            byte[] raw = new byte[size];
+            int read = 0;
+            while (read < size && !inflater.finished()) {
+                int count = inflater.inflate(raw, read, size - read);
+                if (count == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                read += count;
+            }
+            if (read != size) {
+                throw new IllegalArgumentException("Truncated PNG data: " + read + " of " + size + " bytes");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupt PNG data", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeChunk(ByteArrayOutputStream out, String type, byte[] data) {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+        try {
+            out.write(ByteBuffer.allocate(4).putInt(data.length).array());
+            out.write(typeBytes);
+            out.write(data);
+            out.write(ByteBuffer.allocate(4).putInt((int) crc.getValue()).array());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package support;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method or class that needs the real CSS transitions and animations
+ * When the profile reduces motion (ci), the PlaywrightExtension gives such a test its own context,
+ * created for it outside the pool and closed afterwards
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RealMotion {
+}
@@ -0,0 +1,139 @@
+package support;
+
+import com.microsoft.playwright.Playwright;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Executor running every browser scenario on its own virtual thread
+ * The Playwright API is synchronous and not thread-safe: a scenario gets a Playwright driver of its own,
+ * created on its virtual thread and closed when it returns, so the driver never leaves that thread.
+ * Blocking on driver I/O only parks the virtual thread, and a semaphore bounds the number of scenarios
+ * holding a driver and its browser at the same time (-Dscenario.maxBrowsers, default: number of cores)
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public final class ScenarioExecutor implements AutoCloseable {
+
+    private final ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore browsers;
+    private final Supplier<Playwright> drivers;
+
+    /**
+     * Constructor with the limit of -Dscenario.maxBrowsers
+     */
+    public ScenarioExecutor() {
+        this(Integer.getInteger("scenario.maxBrowsers", Runtime.getRuntime().availableProcessors()));
+    }
+
+    /**
+     * Constructor
+     * @param maxBrowsers Maximum number of scenarios holding a driver at the same time
+     */
+    public ScenarioExecutor(int maxBrowsers) {
+        this(maxBrowsers, Playwright::create);
+    }
+
+    /**
+     * Constructor
+     * @param maxBrowsers Maximum number of scenarios holding a driver at the same time
+     * @param drivers Creates the driver of a scenario, called on the virtual thread of that scenario
+     */
+    public ScenarioExecutor(int maxBrowsers, Supplier<Playwright> drivers) {
+        if (maxBrowsers < 1) {
+            throw new IllegalArgumentException("At least one browser is needed");
+        }
+        this.browsers = new Semaphore(maxBrowsers, true);
+        this.drivers = drivers;
+    }
+
+    /**
+     * Run a scenario as soon as a browser slot is free
+     * @param scenario Scenario to run
+     * @return Result of the scenario
+     */
+    public <T> Future<T> submit(Scenario<T> scenario) {
+        return submit(scenario, Duration.ZERO);
+    }
+
+    /**
+     * Run a scenario after a delay, then as soon as a browser slot is free
+     * The delay is spent on the virtual thread, before the slot and the driver are taken
+     * @param scenario Scenario to run
+     * @param delay Time to wait before starting
+     * @return Result of the scenario
+     */
+    public <T> Future<T> submit(Scenario<T> scenario, Duration delay) {
+        return threads.submit(() -> {
+            if (delay.isPositive()) {
+                Thread.sleep(delay);
+            }
+            browsers.acquire();
+            try (Playwright playwright = drivers.get()) {
+                return scenario.run(playwright);
+            } finally {
+                browsers.release();
+            }
+        });
+    }
+
+    /**
+     * Wait for submitted scenarios
+     * @param futures Futures returned by submit
+     * @return Results in the order of the futures
+     * @throws ExecutionException with the failure of the first failed scenario, after all have finished
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public static <T> List<T> await(List<Future<T>> futures) throws ExecutionException, InterruptedException {
+        List<T> results = new ArrayList<>(futures.size());
+        ExecutionException failure = null;
+        for (Future<T> future : futures) {
+            try {
+                results.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+                results.add(null);
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    /**
+     * Interrupt the running scenarios and wait for them to finish
+     */
+    @Override
+    public void close() {
+        threads.shutdownNow();
+        threads.close();
+    }
+
+    /**
+     * Browser scenario confined to its virtual thread
+     * @param <T> Result of the scenario
+     */
+    @FunctionalInterface
+    public interface Scenario<T> {
+
+        /**
+         * Run the scenario
+         * @param playwright Driver owned by this scenario, closed when it returns
+         * @return Result of the scenario
+         * @throws Exception to fail the scenario
+         */
+        T run(Playwright playwright) throws Exception;
+    }
+}
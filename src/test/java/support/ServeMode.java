@@ -0,0 +1,32 @@
+package support;
+
+import java.util.Locale;
+
+/**
+ * How the web application is served to the browser
+ * Selected with -Dserve=http|file|route (default: http)
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public enum ServeMode {
+
+    /** Pages are read from disk through file:// URLs */
+    FILE,
+
+    /** Pages are served over http://localhost by the in-process WebAppServer */
+    HTTP,
+
+    /** Pages are served from memory by WebAppRoutes, all other requests are blocked */
+    ROUTE;
+
+    private static final ServeMode CURRENT = valueOf(System.getProperty("serve", "http").toUpperCase(Locale.ROOT));
+
+    /**
+     * Get the serve mode of this run
+     * @return Mode selected by the system properties
+     */
+    public static ServeMode current() {
+        return CURRENT;
+    }
+}
@@ -0,0 +1,71 @@
+package support;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.Optional;
+
+/**
+ * Keeps only the test classes of one shard
+ * Active when -Dshard.count is greater than 1, the shard of this JVM is set with -Dshard.index (1 to count).
+ * The classes are distributed with a {@link ShardPlan} computed from the stored {@link TestDurations}.
+ * Registered through META-INF/services, like the DurationRecorder that keeps the durations up to date
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public class ShardFilter implements PostDiscoveryFilter {
+
+    private static final int COUNT = Integer.getInteger("shard.count", 1);
+    private static final int INDEX = Integer.getInteger("shard.index", 1);
+
+    private ShardPlan plan;
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (COUNT <= 1) {
+            return FilterResult.included("Sharding disabled");
+        }
+        if (INDEX < 1 || INDEX > COUNT) {
+            throw new IllegalArgumentException("shard.index must be between 1 and " + COUNT + ": " + INDEX);
+        }
+        Optional<String> className = topLevelClass(descriptor);
+        if (className.isEmpty()) {
+            return FilterResult.included("Not part of a test class");
+        }
+        int shard = plan().shardOf(className.get());
+        return shard == INDEX - 1
+                ? FilterResult.included("Shard " + INDEX + "/" + COUNT)
+                : FilterResult.excluded("Assigned to shard " + (shard + 1) + "/" + COUNT);
+    }
+
+    /**
+     * Get the plan of the run, computing it on first use
+     * @return Plan computed from the stored durations
+     */
+    private synchronized ShardPlan plan() {
+        if (plan == null) {
+            plan = ShardPlan.compute(TestDurations.load(), COUNT);
+            System.out.printf("Shard %d/%d: estimated %.1f s from %s%n",
+                    INDEX, COUNT, plan.estimatedMillis(INDEX - 1) / 1000.0, TestDurations.FILE);
+        }
+        return plan;
+    }
+
+    /**
+     * Find the top-level test class of a descriptor
+     * @param descriptor Test or container
+     * @return Binary name of the outermost class, empty for engine descriptors
+     */
+    static Optional<String> topLevelClass(TestDescriptor descriptor) {
+        Optional<String> className = Optional.empty();
+        for (TestDescriptor current = descriptor; current != null; current = current.getParent().orElse(null)) {
+            if (current.getSource().orElse(null) instanceof ClassSource source) {
+                className = Optional.of(source.getClassName());
+            }
+        }
+        return className;
+    }
+}
@@ -0,0 +1,77 @@
+package support;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Assignment of test classes to shards by greedy longest-first bin packing
+ * Classes with a past duration are taken from the longest to the shortest and each one goes to the shard
+ * with the smallest total so far, so the shards finish at about the same time. Classes without a past
+ * duration are spread by a stable hash of their name until their first run has been recorded.
+ * The plan only depends on the stored durations, so every shard and every discovery request of a run
+ * computes the same assignment
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class ShardPlan {
+
+    private final Map<String, Integer> shardOf;
+    private final long[] loads;
+
+    private ShardPlan(Map<String, Integer> shardOf, long[] loads) {
+        this.shardOf = Map.copyOf(shardOf);
+        this.loads = loads;
+    }
+
+    /**
+     * Compute the plan
+     * @param durations Past durations in milliseconds per class name
+     * @param count Number of shards
+     * @return Plan assigning every class to one shard
+     */
+    public static ShardPlan compute(Map<String, Long> durations, int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + count);
+        }
+        List<String> ordered = new ArrayList<>(durations.keySet());
+        ordered.sort(Comparator.comparingLong((String name) -> durations.get(name)).reversed()
+                .thenComparing(Comparator.naturalOrder()));
+
+        Map<String, Integer> shardOf = new HashMap<>();
+        long[] loads = new long[count];
+        for (String name : ordered) {
+            int lightest = 0;
+            for (int shard = 1; shard < count; shard++) {
+                if (loads[shard] < loads[lightest]) {
+                    lightest = shard;
+                }
+            }
+            shardOf.put(name, lightest);
+            loads[lightest] += durations.get(name);
+        }
+        return new ShardPlan(shardOf, loads);
+    }
+
+    /**
+     * Get the shard of a class
+     * @param className Fully qualified class name
+     * @return Zero-based shard index
+     */
+    public int shardOf(String className) {
+        Integer shard = shardOf.get(className);
+        return shard != null ? shard : Math.floorMod(className.hashCode(), loads.length);
+    }
+
+    /**
+     * Get the estimated total duration of a shard
+     * @param shard Zero-based shard index
+     * @return Sum of the past durations assigned to the shard, in milliseconds
+     */
+    public long estimatedMillis(int shard) {
+        return loads[shard];
+    }
+}
@@ -0,0 +1,110 @@
+package support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * File of past test-class durations used to balance the shards
+ * Stored as properties (class name = milliseconds) in target/test-durations.properties, path set with
+ * -Dshard.durations (e.g. a file kept in the CI cache). Only written by sharded runs or when the path is set,
+ * forked JVMs of the same machine update it under a file lock
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.2
+ */
+public final class TestDurations {
+
+    /** Location of the durations file */
+    public static final Path FILE = Paths.get(System.getProperty("shard.durations", "target/test-durations.properties"));
+
+    private static final boolean RECORDING = Integer.getInteger("shard.count", 1) > 1
+            || System.getProperty("shard.durations") != null;
+
+    private TestDurations() {
+    }
+
+    /**
+     * Read the stored durations
+     * @return Duration in milliseconds per class name, empty if the file does not exist yet
+     */
+    public static Map<String, Long> load() {
+        if (!Files.exists(FILE)) {
+            return Map.of();
+        }
+        try (InputStream in = Files.newInputStream(FILE)) {
+            return parse(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + FILE, e);
+        }
+    }
+
+    /**
+     * Check if the durations of this run should be stored
+     * @return true when sharding or when -Dshard.durations is set
+     */
+    public static boolean recording() {
+        return RECORDING;
+    }
+
+    /**
+     * Merge new measurements into the stored durations
+     * A class measured again keeps the mean of its old and new duration, to smooth out noisy runs
+     * @param measured Durations in milliseconds of the classes of this run
+     */
+    public static void update(Map<String, Long> measured) {
+        if (measured.isEmpty()) {
+            return;
+        }
+        try {
+            if (FILE.toAbsolutePath().getParent() != null) {
+                Files.createDirectories(FILE.toAbsolutePath().getParent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create the directory of " + FILE, e);
+        }
+        try (FileChannel channel = FileChannel.open(FILE, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            FileLock lock = channel.lock();
+            try {
+                Map<String, Long> durations = new TreeMap<>(parse(Channels.newInputStream(channel)));
+                measured.forEach((name, millis) -> durations.merge(name, millis, (old, now) -> (old + now) / 2));
+
+                // Written sorted by hand, Properties.store would shuffle the lines on every run
+                StringBuilder content = new StringBuilder("# Test class durations in ms, updated after each run, used by -Dshard.count\n");
+                durations.forEach((name, millis) -> content.append(name).append('=').append(millis).append('\n'));
+                channel.truncate(0).position(0);
+                channel.write(StandardCharsets.ISO_8859_1.encode(content.toString()));
+            } finally {
+                lock.release();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot update " + FILE, e);
+        }
+    }
+
+    private static Map<String, Long> parse(InputStream in) throws IOException {
+        Properties properties = new Properties();
+        properties.load(in);
+        Map<String, Long> durations = new TreeMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                durations.put(name, Long.parseLong(properties.getProperty(name).trim()));
+            } catch (NumberFormatException e) {
+                // Ignore a corrupt line, the class is measured again in this run
+            }
+        }
+        return durations;
+    }
+}
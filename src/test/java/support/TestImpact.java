@@ -0,0 +1,305 @@
+package support;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Test-impact index: which webapp files and classes each test touched, with their content hashes
+ * Tests record their test class, the webapp files their browser requests and one hash over every compiled
+ * class and resource outside the tests package (page objects, oracle, form data, support classes), so that
+ * a change to any of them invalidates every record; at the end of the run the records are merged into
+ * target/test-impact.idx. Records are kept per engine and serve mode, a pass under one combination says
+ * nothing about another. With -Dimpact=true the {@link ImpactFilter} skips every test whose records for the
+ * combinations of the run exist and still have the same hashes
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.2
+ */
+public final class TestImpact implements ExtensionContext.Store.CloseableResource {
+
+    /** Location of the index */
+    public static final Path INDEX = Paths.get("target", "test-impact.idx");
+
+    private static final String HEADER = "# test-impact v3";
+    private static final String SUPPORT = "support:test-classes";
+    private static final String TESTS_PACKAGE = "tests";
+    private static final ThreadLocal<Set<String>> CURRENT = new ThreadLocal<>();
+    private static final Map<String, String> HASHES = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<String>> recorded = new ConcurrentHashMap<>();
+    private final Set<String> failed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Start recording the artifacts touched by a test on the calling thread
+     * @param context Extension context of the test
+     */
+    void begin(ExtensionContext context) {
+        Set<String> artifacts = ConcurrentHashMap.newKeySet();
+        artifacts.add(classArtifact(context.getRequiredTestClass().getName()));
+        artifacts.add(SUPPORT);
+        CURRENT.set(artifacts);
+    }
+
+    /**
+     * Stop recording and keep the record of a passed test
+     * A failed test keeps no record, so that it runs again next time
+     * @param context Extension context of the test
+     * @param engine Engine the test ran on
+     * @param testFailed true if the test failed, including failures found by the extension after the test body
+     */
+    void end(ExtensionContext context, BrowserEngine engine, boolean testFailed) {
+        Set<String> artifacts = CURRENT.get();
+        CURRENT.remove();
+        if (artifacts == null) {
+            return;
+        }
+        String key = key(context.getRequiredTestClass().getName(), context.getRequiredTestMethod().getName(),
+                engine, ServeMode.current());
+        if (testFailed) {
+            failed.add(key);
+            recorded.remove(key);
+        } else if (!failed.contains(key)) {
+            // Invocations of a parameterized test share one record
+            recorded.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).addAll(artifacts);
+        }
+    }
+
+    /**
+     * Record a URL requested by the browser of the current test, if it is a file of the webapp
+     * @param url Requested URL (http://localhost, routed origin or file://)
+     */
+    public static void touchUrl(String url) {
+        Set<String> artifacts = CURRENT.get();
+        if (artifacts == null) {
+            return;
+        }
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            // data: URLs and the like are not files of the webapp
+            return;
+        }
+        Path file;
+        if ("file".equals(uri.getScheme())) {
+            Path root = WebAppAssets.WEBAPP_DIR.toAbsolutePath().normalize();
+            file = Paths.get(uri).normalize();
+            if (!file.startsWith(root)) {
+                return;
+            }
+            file = root.relativize(file);
+        } else if (uri.getPath() != null && uri.getPath().length() > 1) {
+            file = Paths.get(uri.getPath().substring(1));
+        } else {
+            return;
+        }
+        if (Files.isRegularFile(WebAppAssets.WEBAPP_DIR.resolve(file))) {
+            artifacts.add("file:" + file.toString().replace('\\', '/'));
+        }
+    }
+
+    /**
+     * Merge the records of this run into the index
+     */
+    @Override
+    public void close() {
+        Map<String, Set<String>> index = new TreeMap<>(load());
+        failed.forEach(index::remove);
+        recorded.forEach((key, artifacts) -> index.put(key, withHashes(artifacts)));
+        write(index);
+    }
+
+    /**
+     * Read the index
+     * @return Artifacts with their hash ("file:page1.html@1a2b...") per test key, empty if there is no index
+     */
+    public static Map<String, Set<String>> load() {
+        if (!Files.exists(INDEX)) {
+            return Map.of();
+        }
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(INDEX, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + INDEX, e);
+        }
+        if (lines.isEmpty() || !lines.get(0).equals(HEADER)) {
+            return Map.of();
+        }
+        // "A <id> <artifact@hash>" lines define the artifacts referenced by "T <key> <id>..." lines
+        Map<String, String> artifacts = new HashMap<>();
+        Map<String, Set<String>> index = new HashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] fields = line.split(" ");
+            if (fields[0].equals("A") && fields.length == 3) {
+                artifacts.put(fields[1], fields[2]);
+            } else if (fields[0].equals("T") && fields.length >= 2) {
+                Set<String> touched = new TreeSet<>();
+                for (int i = 2; i < fields.length; i++) {
+                    touched.add(artifacts.get(fields[i]));
+                }
+                index.put(fields[1], touched);
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Check if a recorded test is affected by the current state of the tree
+     * @param artifacts Artifacts with their recorded hash
+     * @return true if at least one artifact changed or disappeared
+     */
+    public static boolean isAffected(Set<String> artifacts) {
+        for (String artifact : artifacts) {
+            int at = artifact == null ? -1 : artifact.lastIndexOf('@');
+            if (at < 0 || !artifact.substring(at + 1).equals(hash(artifact.substring(0, at)))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Build the key of a test method run on an engine in a serve mode
+     * @param className Test class name
+     * @param methodName Test method name
+     * @param engine Engine the test runs on
+     * @param serveMode Serve mode of the run
+     * @return Key used in the index (e.g. "tests.Page2Test#testX@firefox/http")
+     */
+    public static String key(String className, String methodName, BrowserEngine engine, ServeMode serveMode) {
+        return className + "#" + methodName + "@" + engine.id() + "/" + serveMode.name().toLowerCase(Locale.ROOT);
+    }
+
+    private static String classArtifact(String className) {
+        return "class:" + className;
+    }
+
+    private static Set<String> withHashes(Set<String> artifacts) {
+        Set<String> hashed = new TreeSet<>();
+        for (String artifact : artifacts) {
+            hashed.add(artifact + "@" + hash(artifact));
+        }
+        return hashed;
+    }
+
+    /**
+     * Get the current content hash of an artifact
+     * @param artifact "class:<name>", "file:<webapp path>" or the support classes
+     * @return Truncated SHA-256 in hex, "missing" if the artifact does not exist anymore
+     */
+    private static String hash(String artifact) {
+        return HASHES.computeIfAbsent(artifact, TestImpact::computeHash);
+    }
+
+    private static String computeHash(String artifact) {
+        try {
+            byte[] content;
+            if (artifact.startsWith("class:")) {
+                String resource = artifact.substring("class:".length()).replace('.', '/') + ".class";
+                try (InputStream in = Thread.currentThread().getContextClassLoader().getResourceAsStream(resource)) {
+                    if (in == null) {
+                        return "missing";
+                    }
+                    content = in.readAllBytes();
+                }
+            } else if (artifact.equals(SUPPORT)) {
+                content = supportContent();
+            } else {
+                Path file = WebAppAssets.WEBAPP_DIR.resolve(artifact.substring("file:".length()));
+                if (!Files.isRegularFile(file)) {
+                    return "missing";
+                }
+                content = Files.readAllBytes(file);
+            }
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content), 0, 8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot hash " + artifact, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Read every file of the test output directory outside the tests package, with its relative path
+     * @return Concatenated paths and contents in path order
+     */
+    private static byte[] supportContent() throws IOException {
+        Path root;
+        try {
+            root = Paths.get(TestImpact.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+        List<Path> files;
+        try (Stream<Path> walk = Files.walk(root)) {
+            files = walk.filter(Files::isRegularFile)
+                    .filter(file -> !root.relativize(file).startsWith(TESTS_PACKAGE))
+                    .sorted()
+                    .toList();
+        }
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        for (Path file : files) {
+            content.writeBytes(root.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            content.writeBytes(Files.readAllBytes(file));
+        }
+        return content.toByteArray();
+    }
+
+    /**
+     * Write the index, every distinct artifact hash once and the tests as lists of artifact ids
+     * @param index Artifacts with hash per test key
+     */
+    private static void write(Map<String, Set<String>> index) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> artifactLines = new ArrayList<>();
+        List<String> testLines = new ArrayList<>();
+        index.forEach((key, artifacts) -> {
+            StringBuilder line = new StringBuilder("T ").append(key);
+            for (String artifact : artifacts) {
+                Integer id = ids.get(artifact);
+                if (id == null) {
+                    id = ids.size();
+                    ids.put(artifact, id);
+                    artifactLines.add("A " + Integer.toString(id, 36) + " " + artifact);
+                }
+                line.append(' ').append(Integer.toString(id, 36));
+            }
+            testLines.add(line.toString());
+        });
+
+        List<String> lines = new ArrayList<>();
+        lines.add(HEADER);
+        lines.addAll(artifactLines);
+        lines.addAll(testLines);
+        try {
+            Files.createDirectories(INDEX.getParent());
+            Files.write(INDEX, lines, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + INDEX, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package support;
+
+import pages.FormInput;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Generator of every input combination of the form page
+ * The country codes are taken from the options of the #country select in page2.html, so a new
+ * country in the page is covered without touching the tests
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class ValidationMatrix {
+
+    private static final Pattern COUNTRY_SELECT = Pattern.compile("<select[^>]*id=\"country\"[^>]*>(.*?)</select>", Pattern.DOTALL);
+    private static final Pattern OPTION_VALUE = Pattern.compile("<option[^>]*value=\"([^\"]*)\"");
+    private static final List<String> EU_CHOICES = List.of("yes", "no", "");
+
+    private ValidationMatrix() {
+    }
+
+    /**
+     * Read the option values of the #country select
+     * @param page2Html Path of page2.html
+     * @return Option values in page order, including the empty placeholder
+     */
+    public static List<String> countryOptions(Path page2Html) {
+        String html;
+        try {
+            html = Files.readString(page2Html, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + page2Html, e);
+        }
+        Matcher select = COUNTRY_SELECT.matcher(html);
+        if (!select.find()) {
+            throw new IllegalStateException("No #country select found in " + page2Html);
+        }
+        List<String> values = new ArrayList<>();
+        Matcher option = OPTION_VALUE.matcher(select.group(1));
+        while (option.find()) {
+            values.add(option.group(1));
+        }
+        return values;
+    }
+
+    /**
+     * Build the full matrix: acronym x country x EU choice x consent
+     * Acronyms and countries range over all option values, so every match and mismatch is included
+     * @param countryOptions Option values of the #country select
+     * @return All combinations
+     */
+    public static List<FormInput> combinations(List<String> countryOptions) {
+        List<FormInput> combinations = new ArrayList<>();
+        for (String acronym : countryOptions) {
+            for (String country : countryOptions) {
+                for (String euResident : EU_CHOICES) {
+                    combinations.add(new FormInput(acronym, country, euResident, true));
+                    combinations.add(new FormInput(acronym, country, euResident, false));
+                }
+            }
+        }
+        return combinations;
+    }
+
+    /**
+     * Build the full matrix of the page2.html of the web application
+     * @return All combinations
+     */
+    public static List<FormInput> combinations() {
+        return combinations(countryOptions(WebAppAssets.WEBAPP_DIR.resolve("page2.html")));
+    }
+}
@@ -0,0 +1,79 @@
+package support;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.ScreenshotAnimations;
+import com.microsoft.playwright.options.ScreenshotCaret;
+import org.junit.jupiter.api.Assumptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Visual regression check of a page against its baseline screenshot
+ * Baselines are stored per browser engine under src/test/resources/visual (-Dvisual.baselines).
+ * A state without a baseline for the engine is skipped, so a checkout without baselines stays green;
+ * -Dvisual.update=true writes the current screenshots as new baselines, to be reviewed and committed.
+ * Baselines are only ever written with that flag.
+ * On a difference, the screenshot and the pixel diff are written to target/visual
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.2
+ */
+public final class VisualCheck {
+
+    private static final Path BASELINES = Paths.get(System.getProperty("visual.baselines", "src/test/resources/visual"));
+    private static final Path OUTPUT = Paths.get("target", "visual");
+    private static final boolean UPDATE = Boolean.getBoolean("visual.update");
+
+    private VisualCheck() {
+    }
+
+    /**
+     * Compare a full-page screenshot with the baseline of a state
+     * @param page Page showing the state
+     * @param name Name of the state (e.g. "page2-error")
+     * @throws AssertionError if the screenshot looks different from the baseline
+     * @throws org.opentest4j.TestAbortedException if there is no baseline yet, skipping the test
+     */
+    public static void assertMatches(Page page, String name) {
+        byte[] screenshot = page.screenshot(new Page.ScreenshotOptions()
+                .setFullPage(true)
+                .setAnimations(ScreenshotAnimations.DISABLED)
+                .setCaret(ScreenshotCaret.HIDE));
+        String engine = engine(page);
+        Path baseline = BASELINES.resolve(engine).resolve(name + ".png");
+        try {
+            if (UPDATE) {
+                Files.createDirectories(baseline.getParent());
+                Files.write(baseline, screenshot);
+                return;
+            }
+            Assumptions.assumeTrue(Files.exists(baseline),
+                    () -> "No visual baseline " + baseline + ", create it with -Dvisual.update=true");
+
+            VisualDiff diff = VisualDiff.compare(PngImage.decode(Files.readAllBytes(baseline)), PngImage.decode(screenshot));
+            if (diff.matches()) {
+                return;
+            }
+            Path directory = OUTPUT.resolve(engine);
+            Files.createDirectories(directory);
+            Path actual = directory.resolve(name + "-actual.png");
+            Path pixels = directory.resolve(name + "-diff.png");
+            Files.write(actual, screenshot);
+            Files.write(pixels, diff.diffImage().encode());
+            throw new AssertionError(String.format("%s differs from its baseline in %d of %d tiles, see %s and %s",
+                    name, diff.differingTiles(), diff.tiles(), actual.toAbsolutePath(), pixels.toAbsolutePath()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot check visual baseline " + baseline, e);
+        }
+    }
+
+    private static String engine(Page page) {
+        Browser browser = page.context().browser();
+        return browser == null ? "chromium" : browser.browserType().name();
+    }
+}
@@ -0,0 +1,194 @@
+package support;
+
+import java.util.Arrays;
+
+/**
+ * Perceptual comparison of two images, tile by tile
+ * Each tile of 32x32 pixels is reduced to its mean color and a 64-bit hash of its 8x8 grid of luma cells
+ * (bit set where a cell is brighter than the tile mean). Two tiles differ when their mean colors are
+ * further apart than the color tolerance or their hashes by more bits than the structure tolerance, so
+ * anti-aliasing noise passes while changed text, borders or colors do not. Everything runs on the
+ * primitive pixel arrays in one pass per image
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class VisualDiff {
+
+    /** Edge length of a tile in pixels */
+    public static final int TILE = 32;
+
+    private static final int GRID = 8;
+    private static final int BRIGHTER = 4;
+    private static final int MAX_HASH_BITS = 4;
+    private static final int MAX_COLOR_DELTA = 3;
+    private static final int MAX_PIXEL_DELTA = 16;
+
+    private static final int DIFFERENT = 0xffff0000;
+    private static final int MISSING = 0xffff00ff;
+
+    private final PngImage baseline;
+    private final PngImage actual;
+    private final int tiles;
+    private final int differingTiles;
+
+    private VisualDiff(PngImage baseline, PngImage actual, int tiles, int differingTiles) {
+        this.baseline = baseline;
+        this.actual = actual;
+        this.tiles = tiles;
+        this.differingTiles = differingTiles;
+    }
+
+    /**
+     * Compare an image with its baseline
+     * Images of different sizes differ in every tile
+     * @param baseline Expected image
+     * @param actual Image to check
+     * @return Result of the comparison
+     */
+    public static VisualDiff compare(PngImage baseline, PngImage actual) {
+        if (baseline.width() != actual.width() || baseline.height() != actual.height()) {
+            int tiles = tilesAcross(Math.max(baseline.width(), actual.width()))
+                    * tilesAcross(Math.max(baseline.height(), actual.height()));
+            return new VisualDiff(baseline, actual, tiles, tiles);
+        }
+        TileHashes expected = TileHashes.of(baseline);
+        TileHashes found = TileHashes.of(actual);
+        int differing = 0;
+        for (int tile = 0; tile < expected.hashes.length; tile++) {
+            if (Long.bitCount(expected.hashes[tile] ^ found.hashes[tile]) > MAX_HASH_BITS
+                    || colorDelta(expected.colors[tile], found.colors[tile]) > MAX_COLOR_DELTA) {
+                differing++;
+            }
+        }
+        return new VisualDiff(baseline, actual, expected.hashes.length, differing);
+    }
+
+    /**
+     * Check if the images look the same
+     * @return true if no tile differs
+     */
+    public boolean matches() {
+        return differingTiles == 0;
+    }
+
+    /**
+     * Get the number of tiles that look different
+     * @return Differing tiles
+     */
+    public int differingTiles() {
+        return differingTiles;
+    }
+
+    /**
+     * Get the number of compared tiles
+     * @return Tiles of the larger image
+     */
+    public int tiles() {
+        return tiles;
+    }
+
+    /**
+     * Build the pixel diff image, only computed when asked for
+     * Pixels that changed are red, pixels present in only one image magenta,
+     * unchanged pixels a faded copy of the baseline
+     * @return Diff image, as large as both images together
+     */
+    public PngImage diffImage() {
+        int width = Math.max(baseline.width(), actual.width());
+        int height = Math.max(baseline.height(), actual.height());
+        int[] pixels = new int[width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int pixel;
+                if (x >= baseline.width() || y >= baseline.height() || x >= actual.width() || y >= actual.height()) {
+                    pixel = MISSING;
+                } else {
+                    int expected = baseline.pixel(x, y);
+                    pixel = colorDelta(expected, actual.pixel(x, y)) > MAX_PIXEL_DELTA ? DIFFERENT : faded(expected);
+                }
+                pixels[y * width + x] = pixel;
+            }
+        }
+        return new PngImage(width, height, pixels);
+    }
+
+    private static int tilesAcross(int pixels) {
+        return (pixels + TILE - 1) / TILE;
+    }
+
+    private static int luma(int rgb) {
+        return (((rgb >>> 16) & 0xff) * 77 + ((rgb >>> 8) & 0xff) * 150 + (rgb & 0xff) * 29) >>> 8;
+    }
+
+    private static int colorDelta(int first, int second) {
+        int red = Math.abs(((first >>> 16) & 0xff) - ((second >>> 16) & 0xff));
+        int green = Math.abs(((first >>> 8) & 0xff) - ((second >>> 8) & 0xff));
+        int blue = Math.abs((first & 0xff) - (second & 0xff));
+        return Math.max(red, Math.max(green, blue));
+    }
+
+    private static int faded(int rgb) {
+        int gray = 255 - (255 - luma(rgb)) / 4;
+        return 0xff000000 | gray << 16 | gray << 8 | gray;
+    }
+
+    /**
+     * Hash and mean color of every tile of an image
+     * @param hashes 64-bit luma-grid hash per tile, row by row
+     * @param colors Mean RGB color per tile
+     */
+    private record TileHashes(long[] hashes, int[] colors) {
+
+        static TileHashes of(PngImage image) {
+            int columns = tilesAcross(image.width());
+            int rows = tilesAcross(image.height());
+            long[] hashes = new long[columns * rows];
+            int[] colors = new int[columns * rows];
+            int[] cellLuma = new int[GRID * GRID];
+            int[] cellCount = new int[GRID * GRID];
+            int[] pixels = image.pixels();
+            for (int row = 0; row < rows; row++) {
+                int top = row * TILE;
+                int bottom = Math.min(top + TILE, image.height());
+                for (int column = 0; column < columns; column++) {
+                    int left = column * TILE;
+                    int right = Math.min(left + TILE, image.width());
+                    Arrays.fill(cellLuma, 0);
+                    Arrays.fill(cellCount, 0);
+                    long red = 0;
+                    long green = 0;
+                    long blue = 0;
+                    long lumaSum = 0;
+                    for (int y = top; y < bottom; y++) {
+                        int cellRow = (y - top) * GRID / (bottom - top) * GRID;
+                        int offset = y * image.width();
+                        for (int x = left; x < right; x++) {
+                            int rgb = pixels[offset + x];
+                            int luma = luma(rgb);
+                            int cell = cellRow + (x - left) * GRID / (right - left);
+                            cellLuma[cell] += luma;
+                            cellCount[cell]++;
+                            lumaSum += luma;
+                            red += (rgb >>> 16) & 0xff;
+                            green += (rgb >>> 8) & 0xff;
+                            blue += rgb & 0xff;
+                        }
+                    }
+                    int count = (bottom - top) * (right - left);
+                    int mean = (int) (lumaSum / count);
+                    long hash = 0;
+                    for (int cell = 0; cell < GRID * GRID; cell++) {
+                        if (cellCount[cell] > 0 && cellLuma[cell] / cellCount[cell] > mean + BRIGHTER) {
+                            hash |= 1L << cell;
+                        }
+                    }
+                    int tile = row * columns + column;
+                    hashes[tile] = hash;
+                    colors[tile] = (int) (red / count) << 16 | (int) (green / count) << 8 | (int) (blue / count);
+                }
+            }
+            return new TileHashes(hashes, colors);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package support;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * In-memory copy of the web application under src/main/webapp
+ * Every file is read once, together with its gzip encoding and ETag. The cache is an immutable
+ * snapshot; when watching is enabled (-Dwebapp.watch=true), a changed file invalidates its entry
+ * and a new snapshot with the re-read file replaces the old one
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public final class WebAppAssets implements ExtensionContext.Store.CloseableResource {
+
+    /** Directory of the web application, can be overridden with -Dwebapp.dir */
+    public static final Path WEBAPP_DIR = Paths.get(System.getProperty("webapp.dir", "src/main/webapp"));
+
+    /** true to reload changed files during the run */
+    public static final boolean WATCH = Boolean.getBoolean("webapp.watch");
+
+    private final Path root;
+    private volatile Map<String, Asset> assets;
+    private WatchService watchService;
+
+    private WebAppAssets(Path root, Map<String, Asset> assets) {
+        this.root = root;
+        this.assets = Map.copyOf(assets);
+    }
+
+    /**
+     * Load every file of a directory into memory
+     * @param root Root directory of the web application
+     * @return Cache keyed by the URL path of each file (e.g. "/page1.html")
+     */
+    public static WebAppAssets load(Path root) {
+        try (Stream<Path> files = Files.walk(root)) {
+            return new WebAppAssets(root, files.filter(Files::isRegularFile)
+                    .map(file -> read(root, file))
+                    .collect(Collectors.toMap(Asset::path, asset -> asset)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load web application from " + root.toAbsolutePath(), e);
+        }
+    }
+
+    /**
+     * Find the asset of a URL path
+     * @param path URL path (e.g. "/page2.html")
+     * @return Asset, or empty if the path is not part of the web application
+     */
+    public Optional<Asset> get(String path) {
+        return Optional.ofNullable(assets.get(path));
+    }
+
+    /**
+     * Start watching the directory of the web application for changes
+     * Only the top-level directory is watched, like the flat layout of src/main/webapp
+     * @return this cache
+     */
+    public synchronized WebAppAssets watch() {
+        if (watchService != null) {
+            return this;
+        }
+        try {
+            watchService = root.getFileSystem().newWatchService();
+            root.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot watch " + root.toAbsolutePath(), e);
+        }
+        WatchService service = watchService;
+        Thread.ofPlatform().daemon().name("webapp-watcher").start(() -> processEvents(service));
+        return this;
+    }
+
+    /**
+     * Stop watching at the end of the run
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    /**
+     * Apply the file events until the watch service is closed
+     * @param service Watch service registered on the root directory
+     */
+    private void processEvents(WatchService service) {
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    if (event.context() instanceof Path name) {
+                        invalidate(root.resolve(name));
+                    }
+                }
+                key.reset();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Run finished
+        }
+    }
+
+    /**
+     * Replace the cache entry of a changed file
+     * @param file Created, modified or deleted file
+     */
+    private synchronized void invalidate(Path file) {
+        String path = urlPath(root, file);
+        Map<String, Asset> next = new HashMap<>(assets);
+        next.remove(path);
+        if (Files.isRegularFile(file)) {
+            try {
+                next.put(path, read(root, file));
+            } catch (UncheckedIOException e) {
+                // File is being written, the next event re-reads it
+            }
+        }
+        assets = Map.copyOf(next);
+    }
+
+    /**
+     * Read one file of the web application
+     * @param root Root directory of the web application
+     * @param file File to read
+     * @return Asset holding the content of the file
+     */
+    static Asset read(Path root, Path file) {
+        try {
+            return Asset.of(urlPath(root, file), Files.readAllBytes(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + file, e);
+        }
+    }
+
+    /**
+     * Get the URL path of a file of the web application
+     * @param root Root directory of the web application
+     * @param file File below the root directory
+     * @return URL path (e.g. "/page1.html")
+     */
+    private static String urlPath(Path root, Path file) {
+        return "/" + root.relativize(file).toString().replace('\\', '/');
+    }
+
+    /**
+     * Immutable file of the web application
+     * @param path URL path of the file
+     * @param contentType MIME type sent in the Content-Type header
+     * @param body Raw content
+     * @param gzipBody Content encoded with gzip
+     * @param etag Quoted entity tag derived from the content
+     */
+    public record Asset(String path, String contentType, byte[] body, byte[] gzipBody, String etag) {
+
+        static Asset of(String path, byte[] body) {
+            return new Asset(path, contentType(path), body, gzip(body), etag(body));
+        }
+
+        private static String contentType(String path) {
+            String extension = path.substring(path.lastIndexOf('.') + 1).toLowerCase(Locale.ROOT);
+            return switch (extension) {
+                case "html", "htm" -> "text/html; charset=UTF-8";
+                case "css" -> "text/css; charset=UTF-8";
+                case "js" -> "text/javascript; charset=UTF-8";
+                case "json" -> "application/json";
+                case "svg" -> "image/svg+xml";
+                case "png" -> "image/png";
+                case "ico" -> "image/x-icon";
+                default -> "application/octet-stream";
+            };
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 32);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        private static String etag(byte[] body) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+                return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package support;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Route;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Serves the web application from memory through request interception
+ * Requests to {@link #BASE_URL} are fulfilled from the asset cache, every other request is blocked,
+ * so a run never touches the disk or the network for its pages
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class WebAppRoutes {
+
+    /** Virtual origin of the web application, never resolved over the network */
+    public static final String BASE_URL = "http://webapp.test";
+
+    private static final String HOST = URI.create(BASE_URL).getHost();
+
+    private WebAppRoutes() {
+    }
+
+    /**
+     * Route all requests of a context through the asset cache
+     * @param context Context to configure
+     * @param assets Assets of the web application
+     */
+    public static void install(BrowserContext context, WebAppAssets assets) {
+        context.route("**/*", route -> handle(route, assets));
+    }
+
+    /**
+     * Fulfill a request from the cache or block it
+     * @param route Intercepted request
+     * @param assets Assets of the web application
+     */
+    private static void handle(Route route, WebAppAssets assets) {
+        URI uri = URI.create(route.request().url());
+        Optional<WebAppAssets.Asset> asset = HOST.equals(uri.getHost())
+                ? assets.get(uri.getPath())
+                : Optional.empty();
+        if (asset.isEmpty()) {
+            route.abort("blockedbyclient");
+            return;
+        }
+        route.fulfill(new Route.FulfillOptions()
+                .setStatus(200)
+                .setContentType(asset.get().contentType())
+                .setHeaders(Map.of("ETag", asset.get().etag(), "Cache-Control", "no-cache"))
+                .setBodyBytes(asset.get().body()));
+    }
+}
@@ -0,0 +1,114 @@
+package support;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process static HTTP server for the web application
+ * Serves the in-memory assets on a free localhost port with ETag revalidation and gzip encoding
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public final class WebAppServer implements ExtensionContext.Store.CloseableResource {
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final WebAppAssets assets;
+
+    /**
+     * Constructor
+     * Binds the server to a free port of the loopback interface and starts it
+     * @param assets Assets to serve
+     */
+    public WebAppServer(WebAppAssets assets) {
+        this.assets = assets;
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start web application server", e);
+        }
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Get the base URL of the server
+     * @return URL without trailing slash (e.g. "http://localhost:41234")
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Stop the server at the end of the run
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.close();
+    }
+
+    /**
+     * Answer one request from the in-memory assets
+     * @param exchange Request and response
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String method = exchange.getRequestMethod();
+            if (!method.equals("GET") && !method.equals("HEAD")) {
+                exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            Optional<WebAppAssets.Asset> found = assets.get(exchange.getRequestURI().getPath());
+            if (found.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            WebAppAssets.Asset asset = found.get();
+
+            Headers request = exchange.getRequestHeaders();
+            Headers response = exchange.getResponseHeaders();
+            response.set("ETag", asset.etag());
+            response.set("Cache-Control", "no-cache");
+            response.set("Vary", "Accept-Encoding");
+
+            if (asset.etag().equals(request.getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            String acceptEncoding = request.getFirst("Accept-Encoding");
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            byte[] body = gzip ? asset.gzipBody() : asset.body();
+            response.set("Content-Type", asset.contentType());
+            if (gzip) {
+                response.set("Content-Encoding", "gzip");
+            }
+
+            if (method.equals("HEAD")) {
+                exchange.sendResponseHeaders(200, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+}
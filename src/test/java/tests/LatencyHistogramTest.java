@@ -0,0 +1,83 @@
+package tests;
+
+import org.junit.jupiter.api.*;
+import support.LatencyHistogram;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for LatencyHistogram
+ * Tests the recorded counts and the precision of the percentiles
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public class LatencyHistogramTest {
+
+    /**
+     * Scenario: Empty histogram
+     *   Given a new histogram
+     *   When nothing is recorded
+     *   Then count, total and percentiles should be 0
+     */
+    @Test
+    @DisplayName("Test 1: Empty histogram reports zeros")
+    void testEmptyHistogram() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // Then
+        assertEquals(0, histogram.count(), "Count should be 0");
+        assertEquals(0, histogram.total(), "Total should be 0");
+        assertEquals(0, histogram.percentile(99), "p99 should be 0");
+    }
+
+    /**
+     * Scenario: Percentiles of a uniform distribution
+     *   Given a histogram
+     *   When I record the values 1 ms to 1000 ms
+     *   Then p50, p95 and p99 should be within the bucket precision of 12.5 %
+     *   And max and total should be exact
+     */
+    @Test
+    @DisplayName("Test 2: Percentiles within bucket precision")
+    void testPercentilesOfUniformValues() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        long total = 0;
+        for (long millis = 1; millis <= 1000; millis++) {
+            histogram.record(millis * 1_000_000);
+            total += millis * 1_000_000;
+        }
+
+        // Then
+        assertEquals(1000, histogram.count(), "Count should be 1000");
+        assertEquals(total, histogram.total(), "Total should be exact");
+        assertEquals(1_000_000_000L, histogram.max(), "Max should be exact");
+        assertEquals(500e6, histogram.percentile(50), 500e6 * 0.125, "p50 should be about 500 ms");
+        assertEquals(950e6, histogram.percentile(95), 950e6 * 0.125, "p95 should be about 950 ms");
+        assertEquals(990e6, histogram.percentile(99), 990e6 * 0.125, "p99 should be about 990 ms");
+    }
+
+    /**
+     * Scenario: Percentile never exceeds the maximum
+     *   Given a histogram
+     *   When I record a single value
+     *   Then every percentile should equal that value
+     */
+    @Test
+    @DisplayName("Test 3: Percentiles are capped by the maximum")
+    void testPercentileCappedByMax() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        histogram.record(123_456);
+
+        // Then
+        assertEquals(123_456, histogram.percentile(50), "p50 should be the single value");
+        assertEquals(123_456, histogram.percentile(100), "p100 should be the single value");
+    }
+}
@@ -3,6 +3,9 @@ package tests;
 import com.microsoft.playwright.*;
 import org.junit.jupiter.api.*;
 import pages.Page1;
+import support.BaseUrl;
+import support.BrowserTest;
+import support.ConsoleCapture;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,47 +14,22 @@ import static org.junit.jupiter.api.Assertions.*;
  * Tests the functionality of checkbox and link enabling/disabling
  *
  * @author Riderzzz-code
- * @version 1.1
+ * @version 1.3
  */
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
-@TestClassOrder(ClassOrderer.OrderAnnotation.class)
-@Order(1)
 public class Page1Test {
 
-    private static Playwright playwright;
-    private static Browser browser;
-    private BrowserContext context;
     private Page page;
     private Page1 page1;
 
-    private static final String BASE_URL = "src/main/webapp";
-
-    @BeforeAll
-    static void setupClass() {
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch(
-                new BrowserType.LaunchOptions().setHeadless(false).setSlowMo(50)
-        );
-    }
+    private String baseUrl;
 
     @BeforeEach
-    void setup() {
-        context = browser.newContext();
-        page = context.newPage();
+    void setup(Page page, @BaseUrl String baseUrl) {
+        this.page = page;
+        this.baseUrl = baseUrl;
         page1 = new Page1(page);
     }
 
-    @AfterEach
-    void teardown() {
-        context.close();
-    }
-
-    @AfterAll
-    static void teardownClass() {
-        browser.close();
-        playwright.close();
-    }
-
     /**
      * Scenario: Navigate to Terms and Conditions page
      *   Given I am on the application
@@ -59,12 +37,11 @@ public class Page1Test {
      *   Then I should see the terms and conditions page
      *   And the page title should be "Nutzungsbedingungen"
      */
-    @Test
-    @Order(1)
+    @BrowserTest
     @DisplayName("Test 1: Navigate to page 1 and verify page load")
     void testNavigateToPage1() {
         // Given & When
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
 
         // Then
         assertTrue(page1.isOnPage(), "Should be on page 1 (Terms and Conditions)");
@@ -79,12 +56,11 @@ public class Page1Test {
      *   Then the checkbox should be unchecked
      *   And the next link should be disabled
      */
-    @Test
-    @Order(2)
+    @BrowserTest
     @DisplayName("Test 2: Verify initial state - checkbox unchecked and link disabled")
     void testInitialState() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
 
         // When - page loads
 
@@ -102,12 +78,11 @@ public class Page1Test {
      *   Then the checkbox should be checked
      *   And the next link should be enabled
      */
-    @Test
-    @Order(3)
+    @BrowserTest
     @DisplayName("Test 3: Accept terms - checkbox checked and link enabled")
     void testAcceptTerms() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
 
         // When
         page1.acceptTerms();
@@ -125,12 +100,11 @@ public class Page1Test {
      *   Then the checkbox should be unchecked
      *   And the next link should be disabled again
      */
-    @Test
-    @Order(4)
+    @BrowserTest
     @DisplayName("Test 4: Decline terms after accepting - link disabled again")
     void testDeclineTermsAfterAccepting() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
         page1.acceptTerms();
         assertTrue(page1.isNextLinkEnabled(), "Link should be enabled initially");
 
@@ -148,12 +122,11 @@ public class Page1Test {
      *   When I toggle the checkbox multiple times
      *   Then the link state should change accordingly
      */
-    @Test
-    @Order(5)
+    @BrowserTest
     @DisplayName("Test 5: Toggle checkbox multiple times - link state changes")
     void testToggleCheckboxMultipleTimes() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
 
         // When & Then - First toggle (check)
         page1.acceptTerms();
@@ -177,12 +150,11 @@ public class Page1Test {
      *   When I read the checkbox label
      *   Then it should contain the expected text
      */
-    @Test
-    @Order(6)
+    @BrowserTest
     @DisplayName("Test 6: Verify label text for terms checkbox")
     void testTermsLabelText() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
 
         // When
         String labelText = page1.getTermsLabelText();
@@ -202,12 +174,11 @@ public class Page1Test {
      *   When I click on the next link
      *   Then I should be navigated to page 2
      */
-    @Test
-    @Order(7)
+    @BrowserTest
     @DisplayName("Test 7: Navigate to page 2 after accepting terms")
     void testNavigateToPage2AfterAccepting() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
         page1.acceptTerms();
         assertTrue(page1.isNextLinkEnabled(), "Link should be enabled");
 
@@ -232,12 +203,11 @@ public class Page1Test {
      *   When I verify the link state
      *   Then the link should be disabled
      */
-    @Test
-    @Order(8)
+    @BrowserTest
     @DisplayName("Test 8: Link is disabled without accepting terms")
     void testLinkDisabledWithoutAccepting() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
         assertFalse(page1.isTermsAccepted(), "Terms should not be accepted");
 
         // Then
@@ -253,12 +223,11 @@ public class Page1Test {
      *   When the page loads
      *   Then all required elements should be present
      */
-    @Test
-    @Order(9)
+    @BrowserTest
     @DisplayName("Test 9: Verify all page elements are present")
     void testAllElementsPresent() {
         // Given & When
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
 
         // Then
         assertTrue(page1.isOnPage(), "Should be on page 1");
@@ -276,12 +245,11 @@ public class Page1Test {
      *   Then the checkbox should be unchecked
      *   And the link should be disabled
      */
-    @Test
-    @Order(10)
+    @BrowserTest
     @DisplayName("Test 10: Page reload resets checkbox state")
     void testPageReloadResetsState() {
         // Given
-        page1.nav(BASE_URL);
+        page1.nav(baseUrl);
         page1.acceptTerms();
         assertTrue(page1.isTermsAccepted(), "Terms should be accepted");
 
@@ -294,4 +262,28 @@ public class Page1Test {
         assertFalse(page1.isNextLinkEnabled(),
                 "Link should be disabled after reload");
     }
-}
\ No newline at end of file
+
+    /**
+     * Scenario: Toggling the terms is logged to the console
+     *   Given I am on the terms and conditions page
+     *   When I accept and then decline the terms
+     *   Then the page should log the activation and the deactivation of the link
+     *   And no uncaught script error should have occurred
+     */
+    @BrowserTest
+    @DisplayName("Test 11: Accepting and declining terms is logged to the console")
+    void testTermsToggleIsLogged(ConsoleCapture console) {
+        // Given
+        page1.nav(baseUrl);
+
+        // When
+        page1.acceptTerms();
+        page1.declineTerms();
+
+        // Then
+        assertEquals("log", console.awaitMessage("Link aktiviert.").type(),
+                "Accepting should be logged");
+        console.awaitMessage("Link deaktiviert.");
+        assertTrue(console.pageErrors().isEmpty(), "No uncaught script error should occur");
+    }
+}
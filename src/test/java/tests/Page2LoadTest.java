@@ -0,0 +1,56 @@
+package tests;
+
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import support.BrowserDaemon;
+import support.ExecutionProfile;
+import support.LoadGenerator;
+import support.LoadProfile;
+import support.LoadReport;
+import support.WebAppAssets;
+import support.WebAppServer;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Load run of Page2 (Country Selection Form)
+ * Only enabled with -Dload.users=N, e.g.:
+ *   mvn test -Dtest=Page2LoadTest -Dload.users=20 -Dload.rampUp=10 -Dload.duration=60 -Dload.rate=40
+ * Uses the browser of a running BrowserDaemon, or launches a shared Chromium for the run
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+@EnabledIfSystemProperty(named = "load.users", matches = "[1-9][0-9]*")
+public class Page2LoadTest {
+
+    /**
+     * Scenario: Submit the form under load
+     *   Given N virtual users started over the ramp-up
+     *   When each user repeatedly loads, fills and submits the form for the duration
+     *   Then every step should complete
+     *   And every validation result should match the oracle
+     */
+    @Test
+    @DisplayName("Load: fill and submit the form with concurrent virtual users")
+    void testSubmitUnderLoad() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        ExecutionProfile executionProfile = ExecutionProfile.current();
+        Optional<String> daemon = BrowserDaemon.endpoint(executionProfile);
+        WebAppServer server = new WebAppServer(WebAppAssets.load(WebAppAssets.WEBAPP_DIR));
+        try (BrowserDaemon.SharedChromium chromium = daemon.isPresent() ? null : BrowserDaemon.launchChromium(executionProfile.args())) {
+            String endpoint = daemon.isPresent() ? daemon.get() : chromium.endpoint();
+
+            LoadReport report = new LoadGenerator(profile, endpoint, server.baseUrl()).run();
+            report.print(System.out);
+
+            assertTrue(report.iterations() > 0, "At least one iteration should complete");
+            assertEquals(0, report.failures(), "No step should fail");
+            assertEquals(0, report.mismatches(), "Every result should match the validation oracle");
+        } finally {
+            server.close();
+        }
+    }
+}
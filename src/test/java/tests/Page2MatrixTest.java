@@ -0,0 +1,88 @@
+package tests;
+
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import pages.FormInput;
+import pages.FormState;
+import pages.Page2;
+import pages.ValidationOracle;
+import support.BaseUrl;
+import support.PlaywrightExtension;
+import support.ValidationMatrix;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the complete validation matrix of Page2 (Country Selection Form)
+ * Every combination of acronym, country, EU choice and consent is submitted on its own page and
+ * checked against the ValidationOracle, the combinations run concurrently on the browsers of the worker threads
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+@ExtendWith(PlaywrightExtension.class)
+public class Page2MatrixTest {
+
+    private static final AtomicInteger EXECUTED = new AtomicInteger();
+    private static long startNanos;
+
+    private Page2 page2;
+    private String baseUrl;
+
+    static List<FormInput> combinations() {
+        return ValidationMatrix.combinations();
+    }
+
+    @BeforeAll
+    static void startClock() {
+        startNanos = System.nanoTime();
+    }
+
+    @AfterAll
+    static void reportRate() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("Validation matrix: %d combinations in %.2f s (%.1f combinations/s)%n",
+                EXECUTED.get(), seconds, EXECUTED.get() / seconds);
+    }
+
+    @BeforeEach
+    void setup(Page page, @BaseUrl String baseUrl) {
+        this.baseUrl = baseUrl;
+        page2 = new Page2(page);
+    }
+
+    /**
+     * Scenario Outline: Validation result of any input
+     *   Given I am on the form page
+     *   When I fill the form with <acronym>, <country>, <eu> and <consent>
+     *   And I submit the form
+     *   Then the result class and the listed errors should be the ones computed by the validation oracle
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("combinations")
+    @DisplayName("Validation matrix")
+    void testCombination(FormInput input) {
+        // Given
+        page2.nav(baseUrl);
+
+        // When
+        page2.fillForm(input);
+        page2.clickSubmit();
+        page2.waitForResult();
+
+        // Then
+        FormState state = page2.snapshot();
+        EXECUTED.incrementAndGet();
+        ValidationOracle.Outcome expected = ValidationOracle.validate(input);
+        assertEquals(expected.resultClass(), state.resultClass(),
+                "Result class should match the oracle");
+        assertEquals(expected.errors(), state.errors(),
+                "Listed errors should match the oracle");
+    }
+}
@@ -2,7 +2,11 @@ package tests;
 
 import com.microsoft.playwright.*;
 import org.junit.jupiter.api.*;
+import pages.FillMode;
+import pages.FormState;
 import pages.Page2;
+import support.BaseUrl;
+import support.BrowserTest;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -11,47 +15,22 @@ import static org.junit.jupiter.api.Assertions.*;
  * Tests the form validation, input fields, and navigation
  *
  * @author Schlabaga + Riderzzz-code
- * @version 2.1
+ * @version 2.4
  */
-@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
-@TestClassOrder(ClassOrderer.OrderAnnotation.class)
-@Order(2)
 public class Page2Test {
 
-    private static Playwright playwright;
-    private static Browser browser;
-    private BrowserContext context;
     private Page page;
     private Page2 page2;
 
-    private static final String BASE_URL = "src/main/webapp";
-
-    @BeforeAll
-    static void setupClass() {
-        playwright = Playwright.create();
-        browser = playwright.chromium().launch(
-                new BrowserType.LaunchOptions().setHeadless(false).setSlowMo(50)
-        );
-    }
+    private String baseUrl;
 
     @BeforeEach
-    void setup() {
-        context = browser.newContext();
-        page = context.newPage();
+    void setup(Page page, @BaseUrl String baseUrl) {
+        this.page = page;
+        this.baseUrl = baseUrl;
         page2 = new Page2(page);
     }
 
-    @AfterEach
-    void teardown() {
-        context.close();
-    }
-
-    @AfterAll
-    static void teardownClass() {
-        browser.close();
-        playwright.close();
-    }
-
     /**
      * Scenario: Navigate to the form page
      *   Given I am on the application
@@ -59,12 +38,11 @@ public class Page2Test {
      *   Then I should see the country selection form
      *   And the page title should be "Länderauswahl Formular"
      */
-    @Test
-    @Order(1)
+    @BrowserTest
     @DisplayName("Test 1: Navigate to page 2 and verify page load")
     void testNavigateToPage2() {
         // Given & When
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // Then
         assertTrue(page2.isOnPage(), "Should be on page 2 (Country Selection Form)");
@@ -78,12 +56,11 @@ public class Page2Test {
      *   When I enter "FR" in the acronym field
      *   Then the field should contain "FR"
      */
-    @Test
-    @Order(2)
+    @BrowserTest
     @DisplayName("Test 2: Fill acronym input field")
     void testFillAcronymField() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("FR");
@@ -99,12 +76,11 @@ public class Page2Test {
      *   When I select "Belgium (BE)" from the country dropdown
      *   Then "BE" should be selected
      */
-    @Test
-    @Order(3)
+    @BrowserTest
     @DisplayName("Test 3: Select country from dropdown")
     void testSelectCountry() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.selectCountry("BE");
@@ -121,12 +97,11 @@ public class Page2Test {
      *   Then the "Yes" radio button should be checked
      *   And the "No" radio button should not be checked
      */
-    @Test
-    @Order(4)
+    @BrowserTest
     @DisplayName("Test 4: Select EU Yes radio button")
     void testSelectEuYesRadio() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.selectEuYes();
@@ -145,12 +120,11 @@ public class Page2Test {
      *   Then the "No" radio button should be checked
      *   And the "Yes" radio button should not be checked
      */
-    @Test
-    @Order(5)
+    @BrowserTest
     @DisplayName("Test 5: Select EU No radio button")
     void testSelectEuNoRadio() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.selectEuNo();
@@ -168,12 +142,11 @@ public class Page2Test {
      *   When I check the data consent checkbox
      *   Then the checkbox should be checked
      */
-    @Test
-    @Order(6)
+    @BrowserTest
     @DisplayName("Test 6: Check data consent checkbox")
     void testCheckDataConsent() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.checkDataConsent();
@@ -190,18 +163,17 @@ public class Page2Test {
      *   Then I should see error messages
      *   And the result should indicate errors
      */
-    @Test
-    @Order(7)
+    @BrowserTest
     @DisplayName("Test 7: Submit empty form - validation errors")
     void testSubmitEmptyForm() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
         assertTrue(page2.isResultMessageVisible(),
@@ -220,12 +192,11 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see a success message
      */
-    @Test
-    @Order(8)
+    @BrowserTest
     @DisplayName("Test 8: Submit valid form for France - success")
     void testSubmitValidFormFrance() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("FR");
@@ -235,7 +206,7 @@ public class Page2Test {
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
         assertTrue(page2.isResultMessageVisible(),
@@ -254,26 +225,26 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see a success message
      */
-    @Test
-    @Order(9)
+    @BrowserTest
     @DisplayName("Test 9: Submit valid form for Germany - success")
     void testSubmitValidFormGermany() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillCompleteForm("DE", "DE", true, true);
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
-        assertTrue(page2.isResultSuccess(),
+        FormState state = page2.snapshot();
+        assertTrue(state.isSuccess(),
                 "Result should indicate success for Germany");
-        assertEquals("DE", page2.getAcronymValue(),
+        assertEquals("DE", state.acronym(),
                 "Acronym should be DE");
-        assertEquals("DE", page2.getSelectedCountry(),
+        assertEquals("DE", state.country(),
                 "Selected country should be DE");
     }
 
@@ -284,12 +255,11 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see a success message
      */
-    @Test
-    @Order(10)
+    @BrowserTest
     @DisplayName("Test 10: Submit valid form for USA - success")
     void testSubmitValidFormUSA() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("US");
@@ -299,7 +269,7 @@ public class Page2Test {
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
         assertTrue(page2.isResultSuccess(),
@@ -313,12 +283,11 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see an error about mismatch
      */
-    @Test
-    @Order(11)
+    @BrowserTest
     @DisplayName("Test 11: Acronym and country mismatch - error")
     void testAcronymCountryMismatch() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("FR");
@@ -328,7 +297,7 @@ public class Page2Test {
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
         assertTrue(page2.isResultError(),
@@ -345,12 +314,11 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see an error about EU inconsistency
      */
-    @Test
-    @Order(12)
+    @BrowserTest
     @DisplayName("Test 12: EU residence inconsistency (Yes but USA) - error")
     void testEuInconsistencyYesUSA() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("US");
@@ -360,7 +328,7 @@ public class Page2Test {
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
         assertTrue(page2.isResultError(),
@@ -377,12 +345,11 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see an error about EU inconsistency
      */
-    @Test
-    @Order(13)
+    @BrowserTest
     @DisplayName("Test 13: EU residence inconsistency (No but France) - error")
     void testEuInconsistencyNoFrance() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("FR");
@@ -392,7 +359,7 @@ public class Page2Test {
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
         assertTrue(page2.isResultError(),
@@ -406,12 +373,11 @@ public class Page2Test {
      *   And I submit the form
      *   Then I should see an error about missing consent
      */
-    @Test
-    @Order(14)
+    @BrowserTest
     @DisplayName("Test 14: Missing data consent - error")
     void testMissingDataConsent() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("DK");
@@ -421,13 +387,15 @@ public class Page2Test {
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
-        assertTrue(page2.isResultError(),
+        FormState state = page2.snapshot();
+        assertTrue(state.isError(),
                 "Result should indicate error");
-        String resultText = page2.getResultMessage();
-        assertTrue(resultText.contains("Datenverarbeitung") || resultText.contains("zustimmen"),
+        assertEquals(1, state.errors().size(),
+                "Only the consent should be reported");
+        assertTrue(state.resultText().contains("Datenverarbeitung") || state.resultText().contains("zustimmen"),
                 "Result should mention consent requirement");
     }
 
@@ -437,12 +405,11 @@ public class Page2Test {
      *   When I click the back link
      *   Then I should be navigated to page 1
      */
-    @Test
-    @Order(15)
+    @BrowserTest
     @DisplayName("Test 15: Navigate back to page 1")
     void testNavigateBackToPage1() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
         assertTrue(page2.isOnPage(), "Should be on page 2");
 
         // When
@@ -465,18 +432,17 @@ public class Page2Test {
      *   When I enter "fr" in lowercase
      *   Then it should be converted to "FR" in uppercase
      */
-    @Test
-    @Order(16)
+    @BrowserTest
     @DisplayName("Test 16: Acronym converts to uppercase automatically")
     void testAcronymUppercaseConversion() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillAcronym("fr");
 
-        // Wait a bit for JavaScript to process
-        page.waitForTimeout(300);
+        // Wait for JavaScript to process
+        page2.waitForAcronymValue("FR");
 
         // Then
         assertEquals("FR", page2.getAcronymValue(),
@@ -491,30 +457,30 @@ public class Page2Test {
      *   Then all fields should retain their values
      *   And I should see a success message
      */
-    @Test
-    @Order(17)
+    @BrowserTest
     @DisplayName("Test 17: Complete form workflow for Denmark")
     void testCompleteFormWorkflowDenmark() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // When
         page2.fillCompleteForm("DK", "DK", true, true);
         page2.clickSubmit();
 
         // Wait for result
-        page.waitForTimeout(500);
+        page2.waitForResult();
 
         // Then
-        assertEquals("DK", page2.getAcronymValue(),
+        FormState state = page2.snapshot();
+        assertEquals("DK", state.acronym(),
                 "Acronym should be DK");
-        assertEquals("DK", page2.getSelectedCountry(),
+        assertEquals("DK", state.country(),
                 "Country should be DK");
-        assertTrue(page2.isEuYesChecked(),
+        assertTrue(state.isEuYes(),
                 "EU Yes should be checked");
-        assertTrue(page2.isDataConsentChecked(),
+        assertTrue(state.dataConsent(),
                 "Data consent should be checked");
-        assertTrue(page2.isResultSuccess(),
+        assertTrue(state.isSuccess(),
                 "Form validation should succeed");
     }
 
@@ -524,31 +490,57 @@ public class Page2Test {
      *   When I submit the form multiple times with different data
      *   Then each submission should be validated independently
      */
-    @Test
-    @Order(18)
+    @BrowserTest
     @DisplayName("Test 18: Multiple form submissions")
     void testMultipleSubmissions() {
         // Given
-        page2.nav(BASE_URL);
+        page2.nav(baseUrl);
 
         // First submission - valid
         page2.fillCompleteForm("FR", "FR", true, true);
         page2.clickSubmit();
-        page.waitForTimeout(500);
+        page2.waitForResult();
         assertTrue(page2.isResultSuccess(), "First submission should succeed");
 
         // Second submission - change to invalid
         page2.fillAcronym("US");
         page2.selectCountry("US");
         page2.selectEuYes(); // Should be No for US
-        page2.clickSubmit();
-        page.waitForTimeout(500);
+        page2.submitAndWaitForResult();
         assertTrue(page2.isResultError(), "Second submission should fail");
 
         // Third submission - fix the error
         page2.selectEuNo();
-        page2.clickSubmit();
-        page.waitForTimeout(500);
+        page2.submitAndWaitForResult();
         assertTrue(page2.isResultSuccess(), "Third submission should succeed");
     }
+
+    /**
+     * Scenario: Fast form fill behaves like a user fill
+     *   Given I am on the form page
+     *   When I fill the form in one script with lowercase "us", USA and No
+     *   And I submit the form
+     *   Then the acronym should be converted to uppercase
+     *   And I should see a success message
+     */
+    @BrowserTest
+    @DisplayName("Test 19: Fast form fill triggers the page's event handlers")
+    void testFastFillCompleteForm() {
+        // Given
+        page2.nav(baseUrl);
+
+        // When
+        page2.fillCompleteForm("us", "US", false, true, FillMode.FAST);
+        page2.clickSubmit();
+        page2.waitForResult();
+
+        // Then
+        FormState state = page2.snapshot();
+        assertEquals("US", state.acronym(),
+                "Input handler should convert the acronym to uppercase");
+        assertTrue(state.isEuNo(),
+                "EU No should be checked");
+        assertTrue(state.isSuccess(),
+                "Form validation should succeed");
+    }
 }
\ No newline at end of file
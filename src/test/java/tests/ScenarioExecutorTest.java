@@ -0,0 +1,164 @@
+package tests;
+
+import com.microsoft.playwright.Playwright;
+import org.junit.jupiter.api.*;
+import support.ScenarioExecutor;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ScenarioExecutor
+ * Tests the browser slot limit and the confinement of each driver to its scenario thread,
+ * with stub drivers so that no browser is needed
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public class ScenarioExecutorTest {
+
+    /** Thread that created each stub driver */
+    private final Map<Playwright, Thread> creators = new ConcurrentHashMap<>();
+    /** Number of close calls per stub driver */
+    private final Map<Playwright, AtomicInteger> closes = new ConcurrentHashMap<>();
+
+    /**
+     * Create a driver stub recording the thread creating it and its close calls
+     * @return Driver whose methods do nothing
+     */
+    private Playwright stubDriver() {
+        AtomicInteger closed = new AtomicInteger();
+        Playwright driver = (Playwright) Proxy.newProxyInstance(Playwright.class.getClassLoader(),
+                new Class<?>[] {Playwright.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "close" -> {
+                        closed.incrementAndGet();
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> null;
+                });
+        creators.put(driver, Thread.currentThread());
+        closes.put(driver, closed);
+        return driver;
+    }
+
+    /**
+     * Scenario: Browser slot limit
+     *   Given an executor with 3 browser slots
+     *   When I submit 12 scenarios that each hold their slot until they are released
+     *   Then 3 scenarios should be running
+     *   And no other scenario should start while they hold their slots
+     */
+    @Test
+    @DisplayName("Test 1: No more scenarios hold a driver than there are browser slots")
+    void testConcurrencyIsCapped() throws Exception {
+        // Given
+        int slots = 3;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        try (ScenarioExecutor executor = new ScenarioExecutor(slots, this::stubDriver)) {
+            // When
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 12; i++) {
+                futures.add(executor.submit(playwright -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        return release.await(10, TimeUnit.SECONDS);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (running.get() < slots && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            // Time for scenarios beyond the limit to start, which only a broken limit lets them do
+            Thread.sleep(200);
+            int runningTogether = running.get();
+            release.countDown();
+            List<Boolean> released = ScenarioExecutor.await(futures);
+
+            // Then
+            assertEquals(slots, runningTogether, slots + " scenarios should hold a slot");
+            assertEquals(slots, maxRunning.get(), "No more than " + slots + " scenarios should ever run together");
+            assertTrue(released.stream().allMatch(Boolean::booleanValue), "Every scenario should have been released");
+        }
+    }
+
+    /**
+     * Scenario: Driver per scenario thread
+     *   Given an executor with 2 browser slots
+     *   When I submit 6 scenarios
+     *   Then each scenario should get its own driver
+     *   And the driver should have been created on the thread of the scenario
+     *   And every driver should be closed once
+     */
+    @Test
+    @DisplayName("Test 2: Every scenario owns a driver created on its thread and closed after it")
+    void testDriverPerScenarioThread() throws Exception {
+        // When
+        List<Playwright> drivers;
+        try (ScenarioExecutor executor = new ScenarioExecutor(2, this::stubDriver)) {
+            List<Future<Playwright>> futures = new ArrayList<>();
+            for (int i = 0; i < 6; i++) {
+                futures.add(executor.submit(playwright -> {
+                    assertSame(creators.get(playwright), Thread.currentThread(),
+                            "Driver should be created on the scenario thread");
+                    assertTrue(Thread.currentThread().isVirtual(), "Scenario should run on a virtual thread");
+                    return playwright;
+                }));
+            }
+            drivers = ScenarioExecutor.await(futures);
+        }
+
+        // Then
+        assertEquals(6, drivers.stream().distinct().count(), "Every scenario should get its own driver");
+        for (Playwright driver : drivers) {
+            assertEquals(1, closes.get(driver).get(), "Every driver should be closed once");
+        }
+    }
+
+    /**
+     * Scenario: Failed scenario
+     *   Given an executor with 1 browser slot
+     *   When the first of two scenarios fails
+     *   Then its slot and driver should be released
+     *   And waiting for both should report the failure after the second has finished
+     */
+    @Test
+    @DisplayName("Test 3: A failed scenario releases its slot and its driver")
+    void testFailedScenarioReleasesSlot() {
+        // Given
+        AtomicInteger finished = new AtomicInteger();
+
+        // When
+        ExecutionException failure;
+        try (ScenarioExecutor executor = new ScenarioExecutor(1, this::stubDriver)) {
+            List<Future<Integer>> futures = List.of(
+                    executor.submit(playwright -> {
+                        throw new IllegalStateException("Scenario failed");
+                    }),
+                    executor.submit(playwright -> finished.incrementAndGet()));
+            failure = assertThrows(ExecutionException.class, () -> ScenarioExecutor.await(futures));
+        }
+
+        // Then
+        assertInstanceOf(IllegalStateException.class, failure.getCause(), "The scenario failure should be reported");
+        assertEquals(1, finished.get(), "The second scenario should run in the released slot");
+        assertTrue(closes.values().stream().allMatch(closed -> closed.get() == 1), "Every driver should be closed");
+    }
+}
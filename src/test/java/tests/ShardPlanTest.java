@@ -0,0 +1,88 @@
+package tests;
+
+import org.junit.jupiter.api.*;
+import support.ShardPlan;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ShardPlan
+ * Tests the greedy longest-first distribution of test classes over shards
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public class ShardPlanTest {
+
+    /**
+     * Scenario: Balanced distribution by past durations
+     *   Given classes of 8 s, 5 s, 4 s, 3 s and 2 s
+     *   When I distribute them over two shards
+     *   Then the longest class should be alone with the shortest one
+     *   And both shards should be estimated at 11 s
+     */
+    @Test
+    @DisplayName("Test 1: Longest-first packing balances two shards")
+    void testBalancedShards() {
+        // Given
+        Map<String, Long> durations = Map.of("A", 8_000L, "B", 5_000L, "C", 4_000L, "D", 3_000L, "E", 2_000L);
+
+        // When
+        ShardPlan plan = ShardPlan.compute(durations, 2);
+
+        // Then
+        assertEquals(plan.shardOf("A"), plan.shardOf("D"), "8 s and 3 s should share a shard");
+        assertEquals(plan.shardOf("B"), plan.shardOf("C"), "5 s and 4 s should share a shard");
+        assertEquals(11_000, plan.estimatedMillis(0), "Shard 1 should be estimated at 11 s");
+        assertEquals(11_000, plan.estimatedMillis(1), "Shard 2 should be estimated at 11 s");
+    }
+
+    /**
+     * Scenario: Classes without past duration
+     *   Given a plan computed from two known classes
+     *   When I look up classes that have never been recorded
+     *   Then they should be assigned to a valid shard
+     *   And they should not count in the estimated durations
+     */
+    @Test
+    @DisplayName("Test 2: Unknown classes are spread by name")
+    void testUnknownClasses() {
+        // Given
+        ShardPlan plan = ShardPlan.compute(Map.of("A", 4_000L, "B", 2_000L), 3);
+
+        // Then
+        for (String name : List.of("New1", "New2", "tests.NewTest")) {
+            int shard = plan.shardOf(name);
+            assertTrue(shard >= 0 && shard < 3, name + " should be assigned to a valid shard");
+            assertEquals(shard, plan.shardOf(name), name + " should always get the same shard");
+        }
+        assertEquals(6_000, plan.estimatedMillis(0) + plan.estimatedMillis(1) + plan.estimatedMillis(2),
+                "Only known classes should be estimated");
+    }
+
+    /**
+     * Scenario: Same plan on every shard
+     *   Given the same durations
+     *   When two shards compute their plan
+     *   Then both plans should assign every class to the same shard
+     */
+    @Test
+    @DisplayName("Test 3: Plan is deterministic")
+    void testDeterministicPlan() {
+        // Given
+        Map<String, Long> durations = Map.of("A", 1_000L, "B", 1_000L, "C", 1_000L);
+
+        // When
+        ShardPlan first = ShardPlan.compute(durations, 2);
+        ShardPlan second = ShardPlan.compute(new TreeMap<>(durations), 2);
+
+        // Then
+        for (String name : List.of("A", "B", "C")) {
+            assertEquals(first.shardOf(name), second.shardOf(name), name + " should be on the same shard");
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package tests;
+
+import org.junit.jupiter.api.*;
+import pages.FormInput;
+import pages.ValidationOracle;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for ValidationOracle
+ * Tests the JVM-side validation rules against the scenarios of Page2Test, without a browser
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.0
+ */
+public class ValidationOracleTest {
+
+    /**
+     * Scenario: Empty form
+     *   Given an empty form input
+     *   When I validate it
+     *   Then all four missing-field errors should be expected in page order
+     */
+    @Test
+    @DisplayName("Test 1: Empty form - all missing-field errors")
+    void testEmptyForm() {
+        // When
+        ValidationOracle.Outcome outcome = ValidationOracle.validate(new FormInput("", "", "", false));
+
+        // Then
+        assertEquals("error", outcome.resultClass(), "Empty form should be rejected");
+        assertEquals(List.of(ValidationOracle.MISSING_ACRONYM, ValidationOracle.MISSING_COUNTRY,
+                        ValidationOracle.MISSING_EU_RESIDENT, ValidationOracle.MISSING_CONSENT),
+                outcome.errors(), "Errors should be listed in page order");
+    }
+
+    /**
+     * Scenario: Valid EU and non-EU inputs
+     *   Given a complete and consistent input for France, and for the USA
+     *   When I validate them
+     *   Then both should succeed
+     */
+    @Test
+    @DisplayName("Test 2: Valid inputs for France and USA - success")
+    void testValidInputs() {
+        // Then
+        assertTrue(ValidationOracle.validate(new FormInput("FR", "FR", "yes", true)).isSuccess(),
+                "France with EU Yes should succeed");
+        assertTrue(ValidationOracle.validate(new FormInput("US", "US", "no", true)).isSuccess(),
+                "USA with EU No should succeed");
+    }
+
+    /**
+     * Scenario: Lowercase acronym with whitespace
+     *   Given the acronym " de " for Germany
+     *   When I validate it
+     *   Then it should be trimmed and uppercased like the page does
+     */
+    @Test
+    @DisplayName("Test 3: Acronym is trimmed and uppercased")
+    void testAcronymNormalization() {
+        // Then
+        assertTrue(ValidationOracle.validate(new FormInput(" de ", "DE", "yes", true)).isSuccess(),
+                "Normalized acronym should match the country");
+    }
+
+    /**
+     * Scenario: Acronym and country mismatch
+     *   Given the acronym "FR" with Belgium selected and EU Yes
+     *   When I validate it
+     *   Then only the mismatch error should be expected
+     */
+    @Test
+    @DisplayName("Test 4: Acronym and country mismatch - error")
+    void testAcronymCountryMismatch() {
+        // When
+        ValidationOracle.Outcome outcome = ValidationOracle.validate(new FormInput("FR", "BE", "yes", true));
+
+        // Then
+        assertEquals(List.of(ValidationOracle.ACRONYM_MISMATCH), outcome.errors(),
+                "Only the mismatch should be reported");
+    }
+
+    /**
+     * Scenario: EU residence inconsistency in both directions
+     *   Given USA with EU Yes, and France with EU No
+     *   When I validate them
+     *   Then the matching EU inconsistency error should be expected
+     */
+    @Test
+    @DisplayName("Test 5: EU residence inconsistency - error")
+    void testEuInconsistency() {
+        // Then
+        assertEquals(List.of(ValidationOracle.EU_YES_NON_EU_COUNTRY),
+                ValidationOracle.validate(new FormInput("US", "US", "yes", true)).errors(),
+                "USA with EU Yes should be rejected");
+        assertEquals(List.of(ValidationOracle.EU_NO_EU_COUNTRY),
+                ValidationOracle.validate(new FormInput("FR", "FR", "no", true)).errors(),
+                "France with EU No should be rejected");
+    }
+
+    /**
+     * Scenario: EU check follows the acronym, not the selected country
+     *   Given the acronym "US" with France selected and EU Yes
+     *   When I validate it
+     *   Then both the mismatch and the EU inconsistency should be expected
+     */
+    @Test
+    @DisplayName("Test 6: EU check uses the acronym")
+    void testEuCheckUsesAcronym() {
+        // When
+        ValidationOracle.Outcome outcome = ValidationOracle.validate(new FormInput("US", "FR", "yes", true));
+
+        // Then
+        assertEquals(List.of(ValidationOracle.ACRONYM_MISMATCH, ValidationOracle.EU_YES_NON_EU_COUNTRY),
+                outcome.errors(), "Mismatch and EU inconsistency should be reported");
+    }
+}
@@ -0,0 +1,163 @@
+package tests;
+
+import org.junit.jupiter.api.*;
+import support.PngImage;
+import support.VisualDiff;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for PngImage and VisualDiff
+ * Tests the PNG codec and the tiled perceptual comparison on generated images
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.1
+ */
+public class VisualDiffTest {
+
+    private static final int WIDTH = 1280;
+    private static final int HEIGHT = 960;
+
+    /**
+     * Build a page-like image: white background, a colored header and dark text-like stripes
+     */
+    private static PngImage page() {
+        int[] pixels = new int[WIDTH * HEIGHT];
+        Arrays.fill(pixels, 0xffffffff);
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                if (y < 80) {
+                    pixels[y * WIDTH + x] = 0xff3366cc;
+                } else if (y % 24 < 12 && x % 10 < 6 && x > 100 && x < 900) {
+                    pixels[y * WIDTH + x] = 0xff202020;
+                }
+            }
+        }
+        return new PngImage(WIDTH, HEIGHT, pixels);
+    }
+
+    /**
+     * Scenario: PNG round trip
+     *   Given a generated image
+     *   When I encode it and decode the result
+     *   Then every pixel should be the same
+     */
+    @Test
+    @DisplayName("Test 1: Encoded image decodes to the same pixels")
+    void testPngRoundTrip() {
+        // Given
+        PngImage image = page();
+
+        // When
+        PngImage decoded = PngImage.decode(image.encode());
+
+        // Then
+        assertEquals(WIDTH, decoded.width(), "Width should be kept");
+        assertEquals(HEIGHT, decoded.height(), "Height should be kept");
+        assertArrayEquals(image.pixels(), decoded.pixels(), "Pixels should be kept");
+    }
+
+    /**
+     * Scenario: Decode a PNG written by another encoder
+     *   Given an RGB image written by ImageIO, with its own choice of row filters
+     *   When I decode it
+     *   Then the pixels should be the ones that were written
+     */
+    @Test
+    @DisplayName("Test 2: Decode an RGB PNG written by ImageIO")
+    void testDecodeForeignPng() throws IOException {
+        // Given
+        PngImage image = page();
+        BufferedImage buffered = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_RGB);
+        buffered.setRGB(0, 0, WIDTH, HEIGHT, image.pixels(), 0, WIDTH);
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(buffered, "png", png);
+
+        // When
+        PngImage decoded = PngImage.decode(png.toByteArray());
+
+        // Then
+        assertArrayEquals(image.pixels(), decoded.pixels(), "Pixels should match the written image");
+    }
+
+    /**
+     * Scenario: Rendering noise
+     *   Given a baseline image
+     *   When every pixel of the screenshot is off by one level, like anti-aliasing differences
+     *   Then the images should match
+     */
+    @Test
+    @DisplayName("Test 3: Small per-pixel noise is tolerated")
+    void testNoiseIsTolerated() {
+        // Given
+        PngImage baseline = page();
+        int[] noisy = baseline.pixels().clone();
+        for (int i = 0; i < noisy.length; i += 3) {
+            noisy[i] ^= 0x00010101;
+        }
+
+        // When
+        VisualDiff diff = VisualDiff.compare(baseline, new PngImage(WIDTH, HEIGHT, noisy));
+
+        // Then
+        assertTrue(diff.matches(), "Noise should not be reported, differing tiles: " + diff.differingTiles());
+    }
+
+    /**
+     * Scenario: Changed region
+     *   Given a baseline image
+     *   When a 40x20 block inside one tile row, across two tile columns, changes color
+     *   Then exactly the tiles covering the block should differ
+     *   And the diff image should mark the changed pixels in red
+     */
+    @Test
+    @DisplayName("Test 4: Changed block is found in its tiles and marked in the diff image")
+    void testChangedBlockIsDetected() {
+        // Given
+        PngImage baseline = page();
+        int[] changed = baseline.pixels().clone();
+        for (int y = 390; y < 410; y++) {
+            Arrays.fill(changed, y * WIDTH + 1000, y * WIDTH + 1040, 0xffcc0000);
+        }
+
+        // When
+        VisualDiff diff = VisualDiff.compare(baseline, new PngImage(WIDTH, HEIGHT, changed));
+        PngImage diffImage = diff.diffImage();
+
+        // Then
+        assertFalse(diff.matches(), "Changed block should be reported");
+        assertEquals(2, diff.differingTiles(), "Block spans two tiles");
+        assertEquals((WIDTH / VisualDiff.TILE) * (HEIGHT / VisualDiff.TILE), diff.tiles(), "All tiles should be compared");
+        assertEquals(0xffff0000, diffImage.pixel(1010, 400), "Changed pixel should be red");
+        assertNotEquals(0xffff0000, diffImage.pixel(10, 400), "Unchanged pixel should not be red");
+    }
+
+    /**
+     * Scenario: Different sizes
+     *   Given a baseline image
+     *   When the screenshot is taller
+     *   Then every tile should differ
+     *   And the diff image should cover both images
+     */
+    @Test
+    @DisplayName("Test 5: Images of different sizes differ")
+    void testDifferentSizes() {
+        // Given
+        PngImage baseline = page();
+        PngImage taller = new PngImage(WIDTH, HEIGHT + 32, Arrays.copyOf(baseline.pixels(), WIDTH * (HEIGHT + 32)));
+
+        // When
+        VisualDiff diff = VisualDiff.compare(baseline, taller);
+
+        // Then
+        assertFalse(diff.matches(), "Size change should be reported");
+        assertEquals(diff.tiles(), diff.differingTiles(), "Every tile should differ");
+        assertEquals(HEIGHT + 32, diff.diffImage().height(), "Diff image should cover the taller image");
+    }
+}
@@ -0,0 +1,109 @@
+package tests;
+
+import com.microsoft.playwright.*;
+import org.junit.jupiter.api.*;
+import pages.Page1;
+import pages.Page2;
+import support.BaseUrl;
+import support.BrowserTest;
+import support.VisualCheck;
+
+/**
+ * Visual regression test class for Page1 and Page2
+ * Compares full-page screenshots of the main states with the baselines under src/test/resources/visual,
+ * states without a baseline for the engine are skipped. Run with -Dvisual.update=true to write the baselines,
+ * first or after an intended change, and commit them
+ *
+ * @author Schlabaga + Riderzzz-code
+ * @version 1.2
+ */
+public class VisualTest {
+
+    private Page page;
+    private String baseUrl;
+
+    @BeforeEach
+    void setup(Page page, @BaseUrl String baseUrl) {
+        this.page = page;
+        this.baseUrl = baseUrl;
+    }
+
+    /**
+     * Scenario: Initial terms page
+     *   Given I am on the terms and conditions page
+     *   When the page loads
+     *   Then it should look like its baseline
+     */
+    @BrowserTest
+    @DisplayName("Visual 1: Page 1 initial state")
+    void testPage1Initial() {
+        new Page1(page).nav(baseUrl);
+
+        VisualCheck.assertMatches(page, "page1-initial");
+    }
+
+    /**
+     * Scenario: Accepted terms
+     *   Given I am on the terms and conditions page
+     *   When I accept the terms
+     *   Then the page with the enabled link should look like its baseline
+     */
+    @BrowserTest
+    @DisplayName("Visual 2: Page 1 with accepted terms")
+    void testPage1Accepted() {
+        Page1 page1 = new Page1(page);
+        page1.nav(baseUrl);
+        page1.acceptTerms();
+
+        VisualCheck.assertMatches(page, "page1-accepted");
+    }
+
+    /**
+     * Scenario: Initial form page
+     *   Given I am on the form page
+     *   When the page loads
+     *   Then it should look like its baseline
+     */
+    @BrowserTest
+    @DisplayName("Visual 3: Page 2 initial state")
+    void testPage2Initial() {
+        new Page2(page).nav(baseUrl);
+
+        VisualCheck.assertMatches(page, "page2-initial");
+    }
+
+    /**
+     * Scenario: Validation errors
+     *   Given I am on the form page
+     *   When I submit the empty form
+     *   Then the page with the error list should look like its baseline
+     */
+    @BrowserTest
+    @DisplayName("Visual 4: Page 2 with validation errors")
+    void testPage2Error() {
+        Page2 page2 = new Page2(page);
+        page2.nav(baseUrl);
+        page2.clickSubmit();
+        page2.waitForResult();
+
+        VisualCheck.assertMatches(page, "page2-error");
+    }
+
+    /**
+     * Scenario: Successful validation
+     *   Given I am on the form page
+     *   When I submit a valid form
+     *   Then the page with the success message should look like its baseline
+     */
+    @BrowserTest
+    @DisplayName("Visual 5: Page 2 after successful validation")
+    void testPage2Success() {
+        Page2 page2 = new Page2(page);
+        page2.nav(baseUrl);
+        page2.fillCompleteForm("DE", "DE", true, true);
+        page2.clickSubmit();
+        page2.waitForResult();
+
+        VisualCheck.assertMatches(page, "page2-success");
+    }
+}